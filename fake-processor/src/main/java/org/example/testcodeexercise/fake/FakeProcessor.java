@@ -0,0 +1,367 @@
+package org.example.testcodeexercise.fake;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Generated;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ *  @GenerateFake 에 지정된 타입의 Fake 클래스 소스를 생성
+ *  - 대상 타입의 public 인스턴스 메서드 중 재정의할 수 있는 메서드(final, static 제외)를 모두 재정의
+ *  - 메서드마다 호출 카운터(LongAdder), 응답 필드, 응답용 함수형 인터페이스를 생성
+ *  - 제네릭 메서드의 응답 인터페이스는 람다로 구현할 수 있도록 타입 변수를 erasure로 대체
+ */
+@SupportedAnnotationTypes(FakeProcessor.GENERATE_FAKE)
+public class FakeProcessor extends AbstractProcessor {
+
+    static final String GENERATE_FAKE = "org.example.testcodeexercise.fake.GenerateFake";
+    static final String FAKE_SUFFIX = "Fake";
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateFake.class)) {
+            for (TypeElement target : targets(element)) {
+                if (generated.add(target.getQualifiedName().toString())) {
+                    generate(target, element);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     *  Class 값은 컴파일 중에 로딩할 수 없으므로 AnnotationMirror에서 타입을 읽음
+     */
+    private List<TypeElement> targets(Element element) {
+        List<TypeElement> targets = new ArrayList<>();
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(GENERATE_FAKE)) {
+                continue;
+            }
+            mirror.getElementValues().forEach((name, value) -> {
+                if (name.getSimpleName().contentEquals("value")) {
+                    for (Object type : (List<?>) value.getValue()) {
+                        targets.add((TypeElement) ((DeclaredType) ((AnnotationValue) type).getValue()).asElement());
+                    }
+                }
+            });
+        }
+        return targets;
+    }
+
+    private void generate(TypeElement target, Element origin) {
+        if (!validate(target, origin)) {
+            return;
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(target).getQualifiedName().toString();
+        String fakeName = target.getSimpleName() + FAKE_SUFFIX;
+        List<FakeMethod> methods = methods(target);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" *  ").append(target.getSimpleName()).append("의 Fake (@GenerateFake 로 생성된 코드이므로 직접 수정하지 않음)\n")
+                .append(" */\n")
+                .append("@").append(Generated.class.getName()).append("(\"").append(FakeProcessor.class.getName()).append("\")\n")
+                .append("public class ").append(fakeName)
+                .append(target.getKind() == ElementKind.INTERFACE ? " implements " : " extends ")
+                .append(target.getQualifiedName()).append(" {\n\n")
+                .append("    private volatile boolean callRealMethods;\n");
+        for (FakeMethod method : methods) {
+            source.append("    private final java.util.concurrent.atomic.LongAdder ").append(method.id).append("Calls = new java.util.concurrent.atomic.LongAdder();\n")
+                    .append("    private volatile ").append(method.answerType()).append(" ").append(method.id).append("Answer;\n");
+        }
+        source.append('\n');
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(target.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) || constructor.getModifiers().contains(Modifier.PROTECTED)) {
+                appendConstructor(source, fakeName, constructor);
+            }
+        }
+
+        source.append("    /**\n")
+                .append("     *  응답을 지정하지 않은 메서드는 기본값 대신 실제 메서드를 호출\n")
+                .append("     */\n")
+                .append("    public ").append(fakeName).append(" callRealMethods() {\n")
+                .append("        this.callRealMethods = true;\n")
+                .append("        return this;\n")
+                .append("    }\n\n")
+                .append("    /**\n")
+                .append("     *  모든 메서드의 호출 횟수 합계\n")
+                .append("     */\n")
+                .append("    public long totalCalls() {\n")
+                .append("        return 0L");
+        for (FakeMethod method : methods) {
+            source.append("\n                + ").append(method.id).append("Calls.sum()");
+        }
+        source.append(";\n    }\n\n")
+                .append("    /**\n")
+                .append("     *  호출 횟수와 지정한 응답을 모두 초기화\n")
+                .append("     */\n")
+                .append("    public void resetFake() {\n")
+                .append("        this.callRealMethods = false;\n");
+        for (FakeMethod method : methods) {
+            source.append("        ").append(method.id).append("Calls.reset();\n")
+                    .append("        ").append(method.id).append("Answer = null;\n");
+        }
+        source.append("    }\n");
+
+        for (FakeMethod method : methods) {
+            appendMethod(source, fakeName, method);
+        }
+        source.append("}\n");
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                    packageName.isEmpty() ? fakeName : packageName + "." + fakeName, origin, target);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "failed to write " + fakeName + ": " + e.getMessage(), origin);
+        }
+    }
+
+    private boolean validate(TypeElement target, Element origin) {
+        String error = null;
+        if (target.getKind() != ElementKind.CLASS && target.getKind() != ElementKind.INTERFACE) {
+            error = "only classes and interfaces are supported";
+        } else if (target.getModifiers().contains(Modifier.FINAL)) {
+            error = "final classes cannot be faked";
+        } else if (!target.getTypeParameters().isEmpty()) {
+            error = "generic types are not supported";
+        } else if (target.getNestingKind().isNested() && !target.getModifiers().contains(Modifier.STATIC)
+                && target.getKind() == ElementKind.CLASS) {
+            error = "inner classes are not supported";
+        } else if (target.getKind() == ElementKind.CLASS && ElementFilter.constructorsIn(target.getEnclosedElements()).stream()
+                .noneMatch(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC)
+                        || constructor.getModifiers().contains(Modifier.PROTECTED))) {
+            error = "no public or protected constructor";
+        }
+        if (error != null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "cannot generate fake for " + target.getQualifiedName() + ": " + error, origin);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     *  재정의할 메서드와 생성할 이름
+     */
+    private List<FakeMethod> methods(TypeElement target) {
+        List<ExecutableElement> overridable = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(target)).stream()
+                .filter(method -> method.getModifiers().contains(Modifier.PUBLIC))
+                .filter(method -> !method.getModifiers().contains(Modifier.STATIC))
+                .filter(method -> !method.getModifiers().contains(Modifier.FINAL))
+                .filter(method -> !((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals("java.lang.Object"))
+                .toList();
+
+        Map<String, Long> countsByName = overridable.stream()
+                .collect(Collectors.groupingBy(method -> method.getSimpleName().toString(), Collectors.counting()));
+        Map<String, Integer> usedIds = new HashMap<>();
+        List<FakeMethod> methods = new ArrayList<>();
+        for (ExecutableElement method : overridable) {
+            String name = method.getSimpleName().toString();
+            String id = name;
+            if (countsByName.get(name) > 1) {
+                StringBuilder suffix = new StringBuilder();
+                for (VariableElement parameter : method.getParameters()) {
+                    suffix.append(typeName(parameter.asType()));
+                }
+                id = name + suffix;
+            }
+            int duplicates = usedIds.merge(id, 1, Integer::sum);
+            if (duplicates > 1) {
+                id = id + duplicates;
+            }
+            methods.add(new FakeMethod(id, method));
+        }
+        return methods;
+    }
+
+    private void appendConstructor(StringBuilder source, String fakeName, ExecutableElement constructor) {
+        source.append("    public ").append(fakeName).append("(").append(parameters(constructor, false)).append(")")
+                .append(throwsClause(constructor, false)).append(" {\n")
+                .append("        super(").append(arguments(constructor)).append(");\n")
+                .append("    }\n\n");
+    }
+
+    private void appendMethod(StringBuilder source, String fakeName, FakeMethod fakeMethod) {
+        ExecutableElement method = fakeMethod.method;
+        boolean generic = !method.getTypeParameters().isEmpty();
+        boolean returnsVoid = method.getReturnType().getKind() == TypeKind.VOID;
+        boolean abstractMethod = method.getModifiers().contains(Modifier.ABSTRACT);
+        String capitalized = capitalize(fakeMethod.id);
+        String answerType = fakeMethod.answerType();
+
+        // 응답 인터페이스
+        source.append("\n    @FunctionalInterface\n")
+                .append("    public interface ").append(answerType).append(" {\n")
+                .append("        ").append(type(method.getReturnType(), generic)).append(" answer(")
+                .append(parameters(method, generic)).append(")").append(throwsClause(method, generic)).append(";\n")
+                .append("    }\n\n");
+
+        // 응답 지정, 호출 횟수
+        source.append("    public ").append(fakeName).append(" on").append(capitalized).append("(").append(answerType).append(" answer) {\n")
+                .append("        this.").append(fakeMethod.id).append("Answer = answer;\n")
+                .append("        return this;\n")
+                .append("    }\n\n")
+                .append("    public long ").append(fakeMethod.id).append("Calls() {\n")
+                .append("        return ").append(fakeMethod.id).append("Calls.sum();\n")
+                .append("    }\n\n");
+
+        // 재정의 메서드
+        if (generic && !returnsVoid) {
+            source.append("    @SuppressWarnings(\"unchecked\")\n");
+        }
+        source.append("    @Override\n")
+                .append("    public ").append(typeParameters(method)).append(type(method.getReturnType(), false)).append(" ")
+                .append(method.getSimpleName()).append("(").append(parameters(method, false)).append(")")
+                .append(throwsClause(method, false)).append(" {\n")
+                .append("        ").append(fakeMethod.id).append("Calls.increment();\n")
+                .append("        ").append(answerType).append(" answer = this.").append(fakeMethod.id).append("Answer;\n")
+                .append("        if (answer != null) {\n");
+        String arguments = arguments(method);
+        if (returnsVoid) {
+            source.append("            answer.answer(").append(arguments).append(");\n")
+                    .append("            return;\n");
+        } else {
+            String cast = generic ? "(" + type(method.getReturnType(), false) + ") " : "";
+            source.append("            return ").append(cast).append("answer.answer(").append(arguments).append(");\n");
+        }
+        source.append("        }\n");
+        if (!abstractMethod) {
+            source.append("        if (callRealMethods) {\n")
+                    .append(returnsVoid ? "            super." : "            return super.")
+                    .append(method.getSimpleName()).append("(").append(arguments).append(");\n");
+            if (returnsVoid) {
+                source.append("            return;\n");
+            }
+            source.append("        }\n");
+        }
+        if (!returnsVoid) {
+            source.append("        return ").append(defaultValue(method.getReturnType())).append(";\n");
+        }
+        source.append("    }\n");
+    }
+
+    private static String typeParameters(ExecutableElement method) {
+        if (method.getTypeParameters().isEmpty()) {
+            return "";
+        }
+        List<String> parameters = new ArrayList<>();
+        for (TypeParameterElement parameter : method.getTypeParameters()) {
+            List<String> bounds = parameter.getBounds().stream()
+                    .map(TypeMirror::toString)
+                    .filter(bound -> !bound.equals("java.lang.Object"))
+                    .toList();
+            parameters.add(bounds.isEmpty() ? parameter.getSimpleName().toString()
+                    : parameter.getSimpleName() + " extends " + String.join(" & ", bounds));
+        }
+        return "<" + String.join(", ", parameters) + "> ";
+    }
+
+    private String parameters(ExecutableElement executable, boolean erase) {
+        List<String> parameters = new ArrayList<>();
+        List<? extends VariableElement> elements = executable.getParameters();
+        for (int i = 0; i < elements.size(); i++) {
+            String type = type(elements.get(i).asType(), erase);
+            if (executable.isVarArgs() && i == elements.size() - 1 && type.endsWith("[]")) {
+                type = type.substring(0, type.length() - 2) + "...";
+            }
+            parameters.add(type + " " + elements.get(i).getSimpleName());
+        }
+        return String.join(", ", parameters);
+    }
+
+    private static String arguments(ExecutableElement executable) {
+        return executable.getParameters().stream()
+                .map(parameter -> parameter.getSimpleName().toString())
+                .collect(Collectors.joining(", "));
+    }
+
+    private String throwsClause(ExecutableElement executable, boolean erase) {
+        if (executable.getThrownTypes().isEmpty()) {
+            return "";
+        }
+        return " throws " + executable.getThrownTypes().stream()
+                .map(type -> type(type, erase))
+                .collect(Collectors.joining(", "));
+    }
+
+    private String type(TypeMirror type, boolean erase) {
+        return erase ? processingEnv.getTypeUtils().erasure(type).toString() : type.toString();
+    }
+
+    /**
+     *  오버로드된 메서드를 구분하기 위한 매개변수 타입 이름 (예 : int[] → IntArray, List<String> → List)
+     */
+    private String typeName(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return typeName(((ArrayType) type).getComponentType()) + "Array";
+        }
+        if (type.getKind().isPrimitive()) {
+            return capitalize(type.getKind().name().toLowerCase());
+        }
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            return ((DeclaredType) erasure).asElement().getSimpleName().toString();
+        }
+        return capitalize(erasure.toString().replaceAll("[^A-Za-z0-9]", ""));
+    }
+
+    private static String defaultValue(TypeMirror type) {
+        if (type.getKind() == TypeKind.BOOLEAN) {
+            return "false";
+        }
+        return type.getKind().isPrimitive() ? "0" : "null";
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private record FakeMethod(String id, ExecutableElement method) {
+
+        String answerType() {
+            return capitalize(id) + "Answer";
+        }
+    }
+}
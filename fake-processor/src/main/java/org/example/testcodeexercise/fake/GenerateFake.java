@@ -0,0 +1,31 @@
+package org.example.testcodeexercise.fake;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *  지정한 클래스(또는 인터페이스)의 Fake 클래스를 컴파일 시점에 생성
+ *  - 생성 위치 : 대상 클래스와 같은 패키지의 {대상 클래스 이름}Fake (예 : DummyService → DummyServiceFake)
+ *  - 어노테이션을 지정한 소스 세트(test, jmh 등)에만 생성되므로, 운영 코드에는 포함되지 않음
+ *
+ *  생성된 Fake 클래스는 대상 클래스의 public 메서드를 모두 재정의하며, 메서드마다 아래 기능을 제공
+ *  - on{메서드}(answer) : 호출 시 실행할 응답 지정 (람다)
+ *  - {메서드}Calls() : 호출 횟수
+ *  - 응답을 지정하지 않은 메서드는 기본값(null, 0, false)을 반환하며, callRealMethods() 를 호출하면 실제 메서드를 호출
+ *  - 이름이 같은 메서드가 여러 개이면 매개변수 타입 이름을 붙여 구분 (예 : dummyMethodWithParamStringStringBuilder)
+ *
+ *  리플렉션이나 런타임 바이트코드 생성 없이 일반 메서드 호출과 카운터 증가만으로 동작
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateFake {
+
+    /**
+     *  Fake 클래스를 생성할 대상
+     */
+    Class<?>[] value();
+}
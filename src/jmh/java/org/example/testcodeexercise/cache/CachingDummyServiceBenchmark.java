@@ -0,0 +1,50 @@
+package org.example.testcodeexercise.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.testcodeexercise.service.DummyService;
+import org.example.testcodeexercise.sink.LineSink;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ *  반복되는 소수의 param에 대해 DummyService와 CachingDummyService를 비교
+ *  - hotKeys 개의 param 중 하나를 무작위로 골라 호출
+ *  - 캐시 적중 시 할당량(gc.alloc.rate.norm)이 0에 가까운지 확인하는 용도
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CachingDummyServiceBenchmark {
+
+    @Param({"1000"})
+    public int hotKeys;
+
+    private String[] params;
+    private DummyService dummyService;
+    private CachingDummyService cachingDummyService;
+
+    @Setup
+    public void setUp() {
+        params = IntStream.range(0, hotKeys).mapToObj(i -> "param" + i).toArray(String[]::new);
+        dummyService = new DummyService();
+        cachingDummyService = new CachingDummyService(LineSink.systemOut(),
+                Caffeine.newBuilder().maximumSize(hotKeys * 2L).recordStats().build());
+    }
+
+    @Benchmark
+    public String dummyMethodWithParam() {
+        return dummyService.dummyMethodWithParam(params[ThreadLocalRandom.current().nextInt(params.length)]);
+    }
+
+    @Benchmark
+    public String cachedDummyMethodWithParam() {
+        return cachingDummyService.dummyMethodWithParam(params[ThreadLocalRandom.current().nextInt(params.length)]);
+    }
+}
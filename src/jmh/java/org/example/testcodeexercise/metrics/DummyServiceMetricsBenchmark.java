@@ -0,0 +1,61 @@
+package org.example.testcodeexercise.metrics;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.example.testcodeexercise.service.DummyService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  DummyServiceMetricsAspect의 호출당 오버헤드 측정
+ *  - plain* : 계측하지 않은 DummyService
+ *  - instrumented* : Spring과 같은 방식(CGLIB 프록시 + aspect)으로 계측한 DummyService, Prometheus registry 사용
+ *
+ *  오버헤드 허용 기준 : instrumented* - plain* <= 300 ns/op (단일 스레드, 평균 시간)
+ *  기준을 넘으면 계측 방식(meter 조회, histogram 설정)을 다시 검토
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DummyServiceMetricsBenchmark {
+
+    public String param = "test";
+
+    private DummyService plain;
+    private DummyService instrumented;
+
+    @Setup
+    public void setUp() {
+        plain = new DummyService();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new DummyService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new DummyServiceMetricsAspect(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)));
+        instrumented = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public String plainGetDummy() {
+        return plain.getDummy();
+    }
+
+    @Benchmark
+    public String instrumentedGetDummy() {
+        return instrumented.getDummy();
+    }
+
+    @Benchmark
+    public String plainDummyMethodWithParam() {
+        return plain.dummyMethodWithParam(param);
+    }
+
+    @Benchmark
+    public String instrumentedDummyMethodWithParam() {
+        return instrumented.dummyMethodWithParam(param);
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.testcodeexercise.mockito;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.example.testcodeexercise.service.DummyServiceFake;
+import org.mockito.MockMakers;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ *  @GenerateFake 로 생성한 DummyServiceFake와 Mockito Mock 비교
+ *  - implementation : fake / mock-maker-inline / mock-maker-subclass
+ *  - createAndStub : 테스트 하나가 준비하는 작업 (생성 + stubbing 1회)
+ *  - stubbedCall : stub 메서드 호출 1회 (Mock은 호출 기록 포함)
+ *  - callAndVerify : 호출 후 호출 횟수 검증
+ *  - stubbedCall / callAndVerify 는 Prepared 상태에서 매 호출마다 새 객체를 준비 (createAndStub 측정에는 준비 비용이 섞이지 않음)
+ *  - ColdStart : 새 JVM에서 첫 객체를 준비하기까지의 시간 (테스트 JVM 기동 비용)
+ *  - DummyServiceFake는 test 소스 세트에서 생성된 클래스를 사용 (jmh { includeTests = true })
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeneratedFakeBenchmark {
+
+    static final String FAKE = "fake";
+    private static final int BATCH = 1000;
+
+    @Param({FAKE, MockMakers.INLINE, MockMakers.SUBCLASS})
+    public String implementation;
+
+    @TearDown(Level.Iteration)
+    public void clearInlineMocks() {
+        Mockito.framework().clearInlineMocks();
+    }
+
+    @Benchmark
+    public DummyService createAndStub() {
+        return create(implementation);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void stubbedCall(Prepared prepared, Blackhole blackhole) {
+        DummyService dummyService = prepared.dummyService;
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(dummyService.dummyMethodWithParam("test"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void callAndVerify(Prepared prepared) {
+        DummyService dummyService = prepared.dummyService;
+        for (int i = 0; i < BATCH; i++) {
+            dummyService.dummyMethodWithParam("test");
+        }
+        if (dummyService instanceof DummyServiceFake fake) {
+            if (fake.dummyMethodWithParamStringCalls() != BATCH) {
+                throw new AssertionError();
+            }
+        } else {
+            verify(dummyService, times(BATCH)).dummyMethodWithParam(anyString());
+        }
+    }
+
+    static DummyService create(String implementation) {
+        if (implementation.equals(FAKE)) {
+            return new DummyServiceFake().onDummyMethodWithParamString(param -> "fake " + param);
+        }
+        DummyService mock = Mockito.mock(DummyService.class, withSettings().mockMaker(implementation));
+        when(mock.dummyMethodWithParam(anyString())).thenAnswer(invocation -> "fake " + invocation.getArgument(0));
+        return mock;
+    }
+
+    /**
+     *  호출마다 새로 생성하고 stubbing한 객체 (호출 기록이 누적되지 않도록)
+     */
+    @State(Scope.Thread)
+    public static class Prepared {
+
+        private DummyService dummyService;
+
+        @Setup(Level.Invocation)
+        public void setUp(GeneratedFakeBenchmark benchmark) {
+            dummyService = create(benchmark.implementation);
+        }
+    }
+
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    @State(Scope.Benchmark)
+    public static class ColdStart {
+
+        @Param({FAKE, MockMakers.INLINE, MockMakers.SUBCLASS})
+        public String implementation;
+
+        @Benchmark
+        public DummyService firstInstance() {
+            return create(implementation);
+        }
+    }
+}
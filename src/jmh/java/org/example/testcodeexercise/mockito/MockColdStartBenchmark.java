@@ -0,0 +1,32 @@
+package org.example.testcodeexercise.mockito;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.mockito.MockMakers;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.withSettings;
+
+/**
+ *  새 JVM에서 첫 DummyService Mock을 만들기까지의 시간
+ *  - Mockito 초기화(inline mock maker는 Java agent 연결 포함)와 Mock 클래스 생성 비용
+ *  - 테스트 JVM마다 한 번씩 발생하는 비용이므로 fork마다 한 번만 측정
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@State(Scope.Benchmark)
+public class MockColdStartBenchmark {
+
+    @Param({MockMakers.INLINE, MockMakers.SUBCLASS})
+    public String mockMaker;
+
+    @Benchmark
+    public DummyService firstMock() {
+        return Mockito.mock(DummyService.class, withSettings().mockMaker(mockMaker));
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.testcodeexercise.mockito;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockMakers;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ *  mock maker별 DummyService Mock / Spy 객체 생성 비용
+ *  - mockMaker : inline(Mockito 5 기본값, 클래스 재정의) / subclass(하위 클래스 생성)
+ *  - 생성된 클래스는 Mockito가 캐시하므로 첫 생성 이후의 비용만 측정 (첫 생성 비용은 MockColdStartBenchmark)
+ *  - inline mock maker는 생성한 Mock을 약한 참조로 추적하므로, 반복마다 clearInlineMocks()로 정리
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MockCreationBenchmark {
+
+    @Param({MockMakers.INLINE, MockMakers.SUBCLASS})
+    public String mockMaker;
+
+    private DummyService spiedInstance;
+
+    @Setup
+    public void setUp() {
+        spiedInstance = new DummyService();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearInlineMocks() {
+        Mockito.framework().clearInlineMocks();
+    }
+
+    @Benchmark
+    public DummyService mock() {
+        return Mockito.mock(DummyService.class, withSettings().mockMaker(mockMaker));
+    }
+
+    /**
+     *  spy(instance)와 같은 설정
+     */
+    @Benchmark
+    public DummyService spy() {
+        return Mockito.mock(DummyService.class, withSettings().mockMaker(mockMaker)
+                .spiedInstance(spiedInstance).defaultAnswer(CALLS_REAL_METHODS));
+    }
+
+    /**
+     *  @Mock 필드 생성과 @InjectMocks 생성자 주입 (MockitoExtension이 테스트마다 수행하는 작업)
+     */
+    @Benchmark
+    public Object injectMocks() throws Exception {
+        Object holder = mockMaker.equals(MockMakers.INLINE) ? new InlineHolder() : new SubclassHolder();
+        try (AutoCloseable ignored = MockitoAnnotations.openMocks(holder)) {
+            return holder;
+        }
+    }
+
+    static class InlineHolder {
+
+        @Mock(mockMaker = MockMakers.INLINE)
+        DummyService dummyService;
+
+        @InjectMocks
+        DummyClient dummyClient;
+    }
+
+    static class SubclassHolder {
+
+        @Mock(mockMaker = MockMakers.SUBCLASS)
+        DummyService dummyService;
+
+        @InjectMocks
+        DummyClient dummyClient;
+    }
+
+    static class DummyClient {
+
+        private final DummyService dummyService;
+
+        DummyClient(DummyService dummyService) {
+            this.dummyService = dummyService;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.testcodeexercise.mockito;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.mockito.MockMakers;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ *  mock maker별 stubbing과 Mock 메서드 호출 비용
+ *  - stub : when(...).thenAnswer(...) 한 번의 비용
+ *  - stubOnlyCall : 호출 기록을 남기지 않는 Mock(stubOnly)의 stub 메서드 호출
+ *  - recordingCall : 호출을 기록하는 일반 Mock의 stub 메서드 호출 (verify 대상이 되는 Mock)
+ *  - stubbing / 호출 기록이 Mock에 계속 쌓이지 않도록 BATCH 단위로 측정하고, 측정 사이에 초기화
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MockInvocationBenchmark {
+
+    private static final int BATCH = 1000;
+    private static final Answer<String> ANSWER = invocation -> "dummy " + invocation.getArgument(0);
+
+    @Param({MockMakers.INLINE, MockMakers.SUBCLASS})
+    public String mockMaker;
+
+    private DummyService stubOnlyMock;
+    private DummyService recordingMock;
+    private DummyService stubbingMock;
+
+    @Setup
+    public void setUp() {
+        stubOnlyMock = Mockito.mock(DummyService.class, withSettings().mockMaker(mockMaker).stubOnly());
+        when(stubOnlyMock.dummyMethodWithParam(anyString())).thenAnswer(ANSWER);
+
+        recordingMock = Mockito.mock(DummyService.class, withSettings().mockMaker(mockMaker));
+        when(recordingMock.dummyMethodWithParam(anyString())).thenAnswer(ANSWER);
+
+        stubbingMock = Mockito.mock(DummyService.class, withSettings().mockMaker(mockMaker));
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        Mockito.reset(stubbingMock);
+        Mockito.clearInvocations(recordingMock);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Mockito.framework().clearInlineMocks();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void stub() {
+        for (int i = 0; i < BATCH; i++) {
+            when(stubbingMock.dummyMethodWithParam(anyString())).thenAnswer(ANSWER);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public String stubOnlyCall() {
+        String result = null;
+        for (int i = 0; i < BATCH; i++) {
+            result = stubOnlyMock.dummyMethodWithParam("test");
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public String recordingCall() {
+        String result = null;
+        for (int i = 0; i < BATCH; i++) {
+            result = recordingMock.dummyMethodWithParam("test");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.testcodeexercise.mockito;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.MockMakers;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ *  호출이 callCount 번씩 기록된 Mock에 대한 검증 비용
+ *  - VerificationMode별 verify : times / atLeast / atMost / never / timeout (timeout은 이미 조건을 만족하므로 기다리지 않음)
+ *  - after(millis)는 지정한 시간을 항상 기다리므로 측정하지 않음
+ *  - InOrder 검증, ArgumentCaptor로 모든 인자 캡처
+ *  - 검증 호출은 Mock에 기록되지 않으므로 한 번 기록한 Mock을 반복해서 검증
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MockVerificationBenchmark {
+
+    @Param({MockMakers.INLINE, MockMakers.SUBCLASS})
+    public String mockMaker;
+
+    @Param({"10", "10000"})
+    public int callCount;
+
+    private DummyService mock;
+
+    @Setup
+    public void setUp() {
+        mock = Mockito.mock(DummyService.class, withSettings().mockMaker(mockMaker));
+        for (int i = 0; i < callCount; i++) {
+            mock.dummyMethod();
+        }
+        for (int i = 0; i < callCount; i++) {
+            mock.dummyMethodWithParam("param" + i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Mockito.framework().clearInlineMocks();
+    }
+
+    @Benchmark
+    public void verifyTimes() {
+        verify(mock, times(callCount)).dummyMethod();
+    }
+
+    @Benchmark
+    public void verifyAtLeast() {
+        verify(mock, atLeast(callCount)).dummyMethod();
+    }
+
+    @Benchmark
+    public void verifyAtMost() {
+        verify(mock, atMost(callCount)).dummyMethod();
+    }
+
+    @Benchmark
+    public void verifyNever() {
+        verify(mock, never()).getDummy();
+    }
+
+    @Benchmark
+    public void verifyTimeout() {
+        verify(mock, timeout(1000).times(callCount)).dummyMethod();
+    }
+
+    @Benchmark
+    public void verifyArgumentMatcher() {
+        verify(mock, times(callCount)).dummyMethodWithParam(anyString());
+    }
+
+    @Benchmark
+    public void verifyInOrder() {
+        InOrder inOrder = inOrder(mock);
+        inOrder.verify(mock, times(callCount)).dummyMethod();
+        inOrder.verify(mock, times(callCount)).dummyMethodWithParam(anyString());
+    }
+
+    @Benchmark
+    public List<String> argumentCaptor() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(mock, times(callCount)).dummyMethodWithParam(captor.capture());
+        return captor.getAllValues();
+    }
+}
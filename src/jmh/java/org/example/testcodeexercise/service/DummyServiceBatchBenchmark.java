@@ -0,0 +1,63 @@
+package org.example.testcodeexercise.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ *  DummyService 배치 메서드 벤치마크
+ *  - 단건 메서드를 반복 호출하는 경우(*Loop)와 배치 메서드(*Batch)를 비교
+ *  - parallelThreshold가 Integer.MAX_VALUE이면 항상 순차 처리, 기본값(8192)이면 size에 따라 병렬 처리
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DummyServiceBatchBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"2147483647", "8192"})
+    public int parallelThreshold;
+
+    private DummyService dummyService;
+    private String[] params;
+    private int[] intParams;
+
+    @Setup
+    public void setUp() {
+        dummyService = new DummyService();
+        dummyService.setParallelThreshold(parallelThreshold);
+        params = IntStream.range(0, size).mapToObj(i -> "param" + i).toArray(String[]::new);
+        intParams = IntStream.range(0, size).toArray();
+    }
+
+    @Benchmark
+    public void dummyMethodWithParamLoop(Blackhole blackhole) {
+        for (String param : params) {
+            blackhole.consume(dummyService.dummyMethodWithParam(param));
+        }
+    }
+
+    @Benchmark
+    public String[] dummyMethodWithParamBatch() {
+        return dummyService.dummyMethodWithParamBatch(params);
+    }
+
+    @Benchmark
+    public void dummyMethodWithParamIntLoop(Blackhole blackhole) {
+        for (int param : intParams) {
+            blackhole.consume(dummyService.dummyMethodWithParamInt(param));
+        }
+    }
+
+    @Benchmark
+    public int[] dummyMethodWithParamIntBatch() {
+        return dummyService.dummyMethodWithParamAsInt(intParams);
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.testcodeexercise.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  DummyService 공개 메서드 벤치마크
+ *  - 단일 스레드(SingleThread)와 다중 스레드(MultiThread) 실행을 각각 측정
+ *  - build.gradle의 jmh 설정에서 gc 프로파일러를 사용하므로 호출당 할당 바이트는 gc.alloc.rate.norm 항목으로 확인
+ *  - intParam은 Integer 캐시(-128 ~ 127) 안/밖의 값을 모두 측정하여 boxing 비용을 비교
+ *  - *AsInt 벤치마크는 primitive API의 할당량이 0 B/op 인지 확인하는 용도
+ *  - *Into* 벤치마크는 스레드별로 재사용하는 버퍼에 결과를 기록하는 버전과 String 버전을 비교
+ *
+ *  dummyMethod()는 System.out에 출력하므로 측정 중에는 System.out을 출력이 버려지는 PrintStream으로 교체한다.
+ *  (PrintStream의 lock과 인코딩 비용은 그대로 측정됨)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class DummyServiceBenchmark {
+
+    @Param({"1", "1000"})
+    public int intParam;
+
+    public String param = "test";
+
+    private DummyService dummyService;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() {
+        dummyService = new DummyService();
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public String getDummy() {
+        return dummyService.getDummy();
+    }
+
+    @Benchmark
+    public Integer getDummyInt() {
+        return dummyService.getDummyInt();
+    }
+
+    @Benchmark
+    public void dummyMethod() {
+        dummyService.dummyMethod();
+    }
+
+    @Benchmark
+    public String dummyMethodWithParam() {
+        return dummyService.dummyMethodWithParam(param);
+    }
+
+    @Benchmark
+    public Integer dummyMethodWithParamInt() {
+        return dummyService.dummyMethodWithParamInt(intParam);
+    }
+
+    @Benchmark
+    public int getDummyAsInt() {
+        return dummyService.getDummyAsInt();
+    }
+
+    @Benchmark
+    public int dummyMethodWithParamAsInt() {
+        return dummyService.dummyMethodWithParamAsInt(intParam);
+    }
+
+    @Benchmark
+    public StringBuilder dummyMethodWithParamIntoStringBuilder(Buffers buffers) {
+        buffers.stringBuilder.setLength(0);
+        return dummyService.dummyMethodWithParam(param, buffers.stringBuilder);
+    }
+
+    @Benchmark
+    public CharBuffer dummyMethodWithParamIntoCharBuffer(Buffers buffers) {
+        return dummyService.dummyMethodWithParam(param, buffers.charBuffer.clear());
+    }
+
+    @Benchmark
+    public ByteBuffer dummyMethodWithParamIntoByteBuffer(Buffers buffers) {
+        return dummyService.dummyMethodWithParam(param, buffers.byteBuffer.clear());
+    }
+
+    @State(Scope.Thread)
+    public static class Buffers {
+        final StringBuilder stringBuilder = new StringBuilder(64);
+        final CharBuffer charBuffer = CharBuffer.allocate(64);
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(64);
+    }
+
+    @Threads(1)
+    public static class SingleThread extends DummyServiceBenchmark {
+    }
+
+    @Threads(4)
+    public static class MultiThread extends DummyServiceBenchmark {
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.testcodeexercise.service;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  여러 스레드에서 동시에 호출할 때 테스트 더블의 호출 기록 처리량 비교
+ *  - recording : ConcurrentRecordingDummyService (스레드별 버퍼, lock 없음)
+ *  - mockito : Mockito Mock (호출 기록을 공유 목록에 동기화하여 저장)
+ *  - 호출 기록이 계속 쌓이므로 측정 반복마다 새 객체를 생성
+ *  - test 소스 세트의 클래스를 사용 (jmh { includeTests = true })
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(16)
+@State(Scope.Benchmark)
+public class RecordingDoubleContentionBenchmark {
+
+    @Param({"recording", "mockito"})
+    public String implementation;
+
+    private DummyService dummyService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        if (implementation.equals("recording")) {
+            dummyService = new ConcurrentRecordingDummyService();
+        } else {
+            Mockito.framework().clearInlineMocks();
+            dummyService = Mockito.mock(DummyService.class);
+        }
+    }
+
+    @Benchmark
+    public String dummyMethodWithParam() {
+        return dummyService.dummyMethodWithParam("test");
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.testcodeexercise.sink;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  다중 스레드에서 dummyMethod() 처리량 비교
+ *  - SYNC : System.out에 직접 출력 (PrintStream lock으로 모든 호출 스레드가 직렬화됨)
+ *  - BLOCK / DROP / SAMPLE : AsyncLineSink를 거쳐 출력
+ *  - 출력 대상은 출력이 버려지는 PrintStream이며, 측정이 끝나면 DROP/SAMPLE에서 버려진 줄 수를 출력
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class DummyMethodSinkBenchmark {
+
+    @Param({"SYNC", "BLOCK", "DROP", "SAMPLE"})
+    public String mode;
+
+    private PrintStream originalOut;
+    private AsyncLineSink asyncLineSink;
+    private DummyService dummyService;
+
+    @Setup
+    public void setUp() {
+        originalOut = System.out;
+        PrintStream nullOut = new PrintStream(OutputStream.nullOutputStream());
+        System.setOut(nullOut);
+
+        if (mode.equals("SYNC")) {
+            dummyService = new DummyService();
+        } else {
+            asyncLineSink = new AsyncLineSink(nullOut, 8192, OverflowPolicy.valueOf(mode), 100, 256);
+            dummyService = new DummyService(asyncLineSink);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+        if (asyncLineSink != null) {
+            asyncLineSink.close();
+            System.out.println("dropped lines: " + asyncLineSink.getDroppedLines());
+        }
+    }
+
+    @Benchmark
+    public void dummyMethod() {
+        dummyService.dummyMethod();
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.testcodeexercise.loadtest;
+
+import java.util.Arrays;
+
+/**
+ *  요청별 응답 시간(ns)을 모두 기록하고 정확한 백분위 값을 계산
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1 << 16];
+    private int count;
+    private long errors;
+
+    synchronized void record(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    synchronized void recordError() {
+        errors++;
+    }
+
+    synchronized LoadTestResult toResult(String mode, int concurrency, long elapsedNanos) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new LoadTestResult(mode, concurrency, count, errors, count * 1_000_000_000.0 / elapsedNanos,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.testcodeexercise.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ *  closed-loop 부하 생성기
+ *  - concurrency 개의 요청을 동시에 유지하며, 응답을 받으면 즉시 다음 요청을 전송
+ *  - 비동기 HttpClient를 사용하므로 연결 수만큼 스레드를 만들지 않음 (수만 개의 동시 연결 가능)
+ */
+class LoadGenerator {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final HttpRequest request;
+    private final int concurrency;
+
+    LoadGenerator(String method, URI uri, int concurrency) {
+        this.request = HttpRequest.newBuilder(uri).method(method, HttpRequest.BodyPublishers.noBody()).build();
+        this.concurrency = concurrency;
+    }
+
+    LatencyRecorder run(Duration duration) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        CountDownLatch finished = new CountDownLatch(concurrency);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        for (int i = 0; i < concurrency; i++) {
+            sendNext(deadline, recorder, finished);
+        }
+        finished.await();
+        return recorder;
+    }
+
+    private void sendNext(long deadline, LatencyRecorder recorder, CountDownLatch finished) {
+        long start = System.nanoTime();
+        if (start - deadline >= 0) {
+            finished.countDown();
+            return;
+        }
+
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (error != null || response.statusCode() >= 400) {
+                        recorder.recordError();
+                    } else {
+                        recorder.record(System.nanoTime() - start);
+                    }
+                    sendNext(deadline, recorder, finished);
+                });
+    }
+}
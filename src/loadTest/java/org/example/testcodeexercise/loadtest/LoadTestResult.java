@@ -0,0 +1,27 @@
+package org.example.testcodeexercise.loadtest;
+
+/**
+ *  한 실행 모드의 측정 결과. 응답 시간은 ns 단위
+ */
+record LoadTestResult(
+        String mode,
+        int concurrency,
+        long requests,
+        long errors,
+        double throughput,
+        long p50,
+        long p99,
+        long p999,
+        long max) {
+
+    static String header() {
+        return String.format("%-18s %11s %10s %8s %12s %10s %10s %10s %10s",
+                "mode", "concurrency", "requests", "errors", "req/s", "p50(us)", "p99(us)", "p99.9(us)", "max(us)");
+    }
+
+    String format() {
+        return String.format("%-18s %11d %10d %8d %12.1f %10.1f %10.1f %10.1f %10.1f",
+                mode, concurrency, requests, errors, throughput,
+                p50 / 1_000.0, p99 / 1_000.0, p999 / 1_000.0, max / 1_000.0);
+    }
+}
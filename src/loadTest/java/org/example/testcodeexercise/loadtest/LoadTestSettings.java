@@ -0,0 +1,44 @@
+package org.example.testcodeexercise.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ *  LoopbackLoadTest 설정. 모두 system property로 지정 (gradle loadTest 태스크에서는 -Ploadtest.xxx=...)
+ *
+ *  @param modes 측정할 spring.main.web-application-type 목록 (loadtest.modes, 기본값 servlet,reactive)
+ *  @param threadings 측정할 스레드 방식 목록, platform | virtual (loadtest.threadings, 기본값 platform)
+ *                    virtual은 spring.threads.virtual.enabled=true로 실행하며 Java 21 이상에서만 적용됨
+ *  @param method 요청 메서드, GET | POST (loadtest.method, 기본값 GET)
+ *  @param path 요청할 경로 (loadtest.path, 기본값 /dummy/param/test)
+ *  @param concurrency 동시에 보내는 요청 수 = 연결 수 (loadtest.concurrency, 기본값 64)
+ *  @param warmup 측정 전 워밍업 시간 (loadtest.warmupSeconds, 기본값 5)
+ *  @param duration 측정 시간 (loadtest.durationSeconds, 기본값 15)
+ *  @param applicationProperties 애플리케이션에 추가로 전달할 설정 (loadtest.properties, 쉼표로 구분)
+ */
+public record LoadTestSettings(
+        List<String> modes,
+        List<String> threadings,
+        String method,
+        String path,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        List<String> applicationProperties) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                split(System.getProperty("loadtest.modes", "servlet,reactive")),
+                split(System.getProperty("loadtest.threadings", "platform")),
+                System.getProperty("loadtest.method", "GET"),
+                System.getProperty("loadtest.path", "/dummy/param/test"),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 5)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 15)),
+                split(System.getProperty("loadtest.properties", "")));
+    }
+
+    private static List<String> split(String value) {
+        return value.isBlank() ? List.of() : List.of(value.split(","));
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.testcodeexercise.loadtest;
+
+import org.example.testcodeexercise.TestCodeExerciseApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  실행 모드별 loopback 부하 테스트
+ *  - 실행 모드(servlet / reactive)와 스레드 방식(platform / virtual)의 조합마다
+ *    애플리케이션을 임의 포트로 띄우고, 같은 JVM의 LoadGenerator로 워밍업 후 측정
+ *  - 처리량(req/s)과 p50 / p99 / p99.9 / max 응답 시간을 표로 출력
+ *  - dummyMethod()의 출력이 결과를 가리지 않도록 측정 중에는 System.out을 버림
+ *  - 클라이언트와 서버가 같은 JVM, 같은 CPU를 나눠 쓰므로 절대값보다 모드 간 비교에 사용
+ *
+ *  실행 : ./gradlew loadTest [-Ploadtest.modes=servlet,reactive] [-Ploadtest.concurrency=64] ...
+ *  (설정 항목은 LoadTestSettings 참고)
+ */
+public class LoopbackLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<LoadTestResult> results = new ArrayList<>();
+        PrintStream out = System.out;
+
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            for (String mode : settings.modes()) {
+                for (String threading : settings.threadings()) {
+                    results.add(run(mode, threading, settings));
+                }
+            }
+        } finally {
+            System.setOut(out);
+        }
+
+        System.out.println(LoadTestResult.header());
+        results.forEach(result -> System.out.println(result.format()));
+    }
+
+    private static LoadTestResult run(String mode, String threading, LoadTestSettings settings) throws InterruptedException {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.main.web-application-type=" + mode,
+                "spring.threads.virtual.enabled=" + threading.equals("virtual"),
+                "server.port=0",
+                "spring.main.banner-mode=off",
+                "logging.level.root=warn"));
+        properties.addAll(settings.applicationProperties());
+
+        // application.properties보다 우선하도록 command line argument로 전달
+        String[] args = properties.stream().map(property -> "--" + property).toArray(String[]::new);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestCodeExerciseApplication.class)
+                .run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadGenerator generator = new LoadGenerator(settings.method(),
+                    URI.create("http://localhost:" + port + settings.path()), settings.concurrency());
+
+            generator.run(settings.warmup());
+            long start = System.nanoTime();
+            LatencyRecorder recorder = generator.run(settings.duration());
+            return recorder.toResult(mode + "/" + threading, settings.concurrency(), System.nanoTime() - start);
+        }
+    }
+}
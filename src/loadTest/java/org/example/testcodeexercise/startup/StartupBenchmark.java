@@ -0,0 +1,146 @@
+package org.example.testcodeexercise.startup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ *  설정 조합(StartupVariant)별 기동 성능 측정
+ *  - 매 실행마다 새 JVM 프로세스로 애플리케이션을 띄우고, 첫 요청(GET /dummy)이 성공할 때까지의 시간을 측정
+ *  - 첫 요청 직후 /actuator/metrics/jvm.memory.used?tag=area:heap 으로 heap 사용량을 조회
+ *  - 조합마다 startup.runs 회(기본값 10) 반복하여 중앙값 / 최솟값을 출력하고 startup.output 파일에 누적 기록
+ *
+ *  gradle startupBenchmark 태스크로 실행 (classpath, AOT 여부, CDS 아카이브 경로를 태스크가 전달)
+ */
+public class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String classpath;
+
+    StartupBenchmark(String classpath) {
+        this.classpath = classpath;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String classpath = System.getProperty("startup.classpath", System.getProperty("java.class.path"));
+        int runs = Integer.getInteger("startup.runs", 10);
+        String cdsArchive = System.getProperty("startup.cdsArchive");
+        if (cdsArchive != null && !Files.exists(Path.of(cdsArchive))) {
+            cdsArchive = null;
+        }
+
+        StartupBenchmark benchmark = new StartupBenchmark(classpath);
+        List<String> rows = new ArrayList<>();
+        System.out.printf("%-10s %6s %22s %22s %20s%n", "variant", "runs", "first request(ms) p50", "first request(ms) min", "startup heap(MB) p50");
+        for (StartupVariant variant : StartupVariant.available(Boolean.getBoolean("startup.aot"), cdsArchive)) {
+            long[] firstRequestMillis = new long[runs];
+            long[] heapBytes = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                StartupSample sample = benchmark.measure(variant);
+                firstRequestMillis[i] = sample.firstRequestMillis();
+                heapBytes[i] = sample.heapBytes();
+            }
+            Arrays.sort(firstRequestMillis);
+            Arrays.sort(heapBytes);
+            long medianMillis = firstRequestMillis[runs / 2];
+            long medianHeap = heapBytes[runs / 2];
+
+            System.out.printf("%-10s %6d %22d %22d %20.1f%n",
+                    variant.name(), runs, medianMillis, firstRequestMillis[0], medianHeap / (1024.0 * 1024.0));
+            rows.add(String.join(",", Instant.now().toString(), variant.name(), String.valueOf(runs),
+                    String.valueOf(medianMillis), String.valueOf(firstRequestMillis[0]), String.valueOf(medianHeap)));
+        }
+
+        String output = System.getProperty("startup.output");
+        if (output != null) {
+            append(Path.of(output), rows);
+        }
+    }
+
+    StartupSample measure(StartupVariant variant) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(variant.jvmArgs());
+        command.addAll(List.of("-cp", classpath, "org.example.testcodeexercise.TestCodeExerciseApplication"));
+        command.addAll(variant.applicationArgs());
+        command.add("--server.port=" + port);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            awaitFirstRequest(process, URI.create("http://localhost:" + port + "/dummy"));
+            long firstRequestMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            return new StartupSample(firstRequestMillis, heapUsed(port));
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private void awaitFirstRequest(Process process, URI uri) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        while (System.nanoTime() - deadline < 0) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("application exited with code " + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("application did not respond within " + STARTUP_TIMEOUT);
+    }
+
+    private long heapUsed(int port) throws IOException, InterruptedException {
+        URI uri = URI.create("http://localhost:" + port + "/actuator/metrics/jvm.memory.used?tag=area:heap");
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+        JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+        return measurements.isArray() && !measurements.isEmpty() ? measurements.get(0).path("value").asLong() : -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void append(Path output, List<String> rows) throws IOException {
+        Files.createDirectories(output.getParent());
+        if (!Files.exists(output)) {
+            Files.writeString(output, "timestamp,variant,runs,firstRequestMillisP50,firstRequestMillisMin,heapBytesP50\n");
+        }
+        Files.write(output, rows, StandardOpenOption.APPEND);
+    }
+
+    record StartupSample(long firstRequestMillis, long heapBytes) {
+    }
+}
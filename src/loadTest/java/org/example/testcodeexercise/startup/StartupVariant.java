@@ -0,0 +1,43 @@
+package org.example.testcodeexercise.startup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  기동 시간을 비교할 설정 조합
+ *
+ *  @param name 결과에 표시할 이름
+ *  @param jvmArgs JVM 옵션
+ *  @param applicationArgs 애플리케이션 인자
+ */
+record StartupVariant(String name, List<String> jvmArgs, List<String> applicationArgs) {
+
+    private static final String FAST_STARTUP_PROFILE = "--spring.profiles.active=fast-startup";
+    // fast-startup 프로파일의 banner 설정이 비교 결과에 섞이지 않도록 모든 설정 조합에서 banner를 끔
+    private static final String NO_BANNER = "--spring.main.banner-mode=off";
+
+    /**
+     *  기본 설정과 lazy 초기화, 그리고 사용 가능한 경우 AOT / AppCDS와 모든 최적화를 조합한 설정
+     *  - 모든 설정 조합은 banner를 출력하지 않으므로, lazy와 default의 차이는 lazy 초기화만의 효과
+     */
+    static List<StartupVariant> available(boolean aot, String cdsArchive) {
+        List<StartupVariant> variants = new ArrayList<>();
+        variants.add(new StartupVariant("default", List.of(), List.of(NO_BANNER)));
+        variants.add(new StartupVariant("lazy", List.of(), List.of(NO_BANNER, FAST_STARTUP_PROFILE)));
+
+        List<String> optimizedJvmArgs = new ArrayList<>();
+        if (aot) {
+            variants.add(new StartupVariant("aot", List.of("-Dspring.aot.enabled=true"), List.of(NO_BANNER)));
+            optimizedJvmArgs.add("-Dspring.aot.enabled=true");
+        }
+        if (cdsArchive != null) {
+            String cdsOption = "-XX:SharedArchiveFile=" + cdsArchive;
+            variants.add(new StartupVariant("cds", List.of(cdsOption), List.of(NO_BANNER)));
+            optimizedJvmArgs.add(cdsOption);
+        }
+        if (!optimizedJvmArgs.isEmpty()) {
+            variants.add(new StartupVariant("optimized", optimizedJvmArgs, List.of(NO_BANNER, FAST_STARTUP_PROFILE)));
+        }
+        return variants;
+    }
+}
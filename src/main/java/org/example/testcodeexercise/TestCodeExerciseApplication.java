@@ -2,12 +2,18 @@ package org.example.testcodeexercise;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class TestCodeExerciseApplication {
 
+    private static final int STARTUP_STEP_CAPACITY = 10_000;
+
     public static void main(String[] args) {
-        SpringApplication.run(TestCodeExerciseApplication.class, args);
+        SpringApplication application = new SpringApplication(TestCodeExerciseApplication.class);
+        // 빈 생성, 자동 설정, 컨텍스트 refresh 단계별 소요 시간 기록 (/actuator/startup, StartupProfileExporter)
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,43 @@
+package org.example.testcodeexercise.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.example.testcodeexercise.service.DummyService;
+import org.example.testcodeexercise.sink.LineSink;
+
+import java.util.function.Function;
+
+/**
+ *  dummyMethodWithParam(String)의 결과를 Caffeine 캐시에 보관하는 DummyService
+ *  - 캐시 크기는 maximumSize로 제한되며, 빈도 기반(W-TinyLFU) 정책으로 제거할 항목을 선택
+ *  - 캐시에 있는 param은 새 String을 만들지 않고 보관된 인스턴스를 그대로 반환
+ *  - null param은 캐시하지 않고 항상 원본 메서드를 호출
+ *  - 나머지 메서드는 DummyService와 동일하게 동작
+ */
+public class CachingDummyService extends DummyService {
+
+    public static final String CACHE_NAME = "dummyMethodWithParam";
+
+    private final Cache<Object, Object> cache;
+    private final Function<Object, Object> loader = param -> super.dummyMethodWithParam((String) param);
+
+    public CachingDummyService(LineSink lineSink, Cache<Object, Object> cache) {
+        super(lineSink);
+        this.cache = cache;
+    }
+
+    @Override
+    public String dummyMethodWithParam(String param) {
+        if (param == null) {
+            return super.dummyMethodWithParam(null);
+        }
+        return (String) cache.get(param, loader);
+    }
+
+    /**
+     *  캐시 적중 / 미적중 / 제거 횟수 등의 누적 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.testcodeexercise.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.testcodeexercise.sink.LineSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ *  dummy.cache.enabled=true 일 때 CachingDummyService를 기본 DummyService로 등록
+ *  - 캐시는 CacheManager에 "dummyMethodWithParam" 이름으로 등록되므로 @Cacheable에서도 같은 캐시를 사용할 수 있음
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "dummy.cache", name = "enabled", havingValue = "true")
+@EnableCaching
+@EnableConfigurationProperties(DummyCacheProperties.class)
+public class DummyCacheConfiguration {
+
+    @Bean
+    public CaffeineCacheManager cacheManager(DummyCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CachingDummyService.CACHE_NAME);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .recordStats());
+        return cacheManager;
+    }
+
+    @Bean
+    @Primary
+    public CachingDummyService cachingDummyService(LineSink lineSink, CaffeineCacheManager cacheManager) {
+        Cache<Object, Object> cache = ((CaffeineCache) cacheManager.getCache(CachingDummyService.CACHE_NAME)).getNativeCache();
+        return new CachingDummyService(lineSink, cache);
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.testcodeexercise.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ *  dummyMethodWithParam 결과 캐시 설정 (dummy.cache.*)
+ *
+ *  @param enabled 캐시 사용 여부
+ *  @param maximumSize 캐시에 보관할 최대 항목 수
+ */
+@ConfigurationProperties(prefix = "dummy.cache")
+public record DummyCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") long maximumSize) {
+}
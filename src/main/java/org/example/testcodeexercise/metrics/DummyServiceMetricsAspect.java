@@ -0,0 +1,75 @@
+package org.example.testcodeexercise.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  DummyService(및 하위 클래스)의 public 메서드 호출을 계측 (setter 제외)
+ *  - dummy.service.calls : 호출 수 (counter)
+ *  - dummy.service.errors : 예외로 끝난 호출 수 (counter, exception 태그 추가)
+ *  - dummy.service.latency : 응답 시간 (timer, percentile histogram 발행)
+ *  - 모든 meter는 method 태그로 메서드 이름을 가지며, 오버로딩된 메서드는 같은 meter를 공유
+ *
+ *  hot path 비용을 줄이기 위해 Method별 meter를 처음 호출될 때 한 번만 조회하여 보관하고,
+ *  이후에는 map 조회와 counter / timer 기록만 수행
+ *  (허용 오버헤드와 측정 방법은 jmh의 DummyServiceMetricsBenchmark 참고)
+ */
+@Aspect
+public class DummyServiceMetricsAspect {
+
+    private static final String METHOD_TAG = "method";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public DummyServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * org.example.testcodeexercise.service.DummyService+.*(..)) && !execution(* set*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodMeters methodMeters = meters.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(), this::register);
+        methodMeters.calls.increment();
+
+        long start = registry.config().clock().monotonicTime();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            Counter.builder("dummy.service.errors")
+                    .tag(METHOD_TAG, methodMeters.name)
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(registry)
+                    .increment();
+            throw e;
+        } finally {
+            methodMeters.latency.record(registry.config().clock().monotonicTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private MethodMeters register(Method method) {
+        String name = method.getName();
+        Counter calls = Counter.builder("dummy.service.calls")
+                .description("DummyService method calls")
+                .tag(METHOD_TAG, name)
+                .register(registry);
+        Timer latency = Timer.builder("dummy.service.latency")
+                .description("DummyService method latency")
+                .tag(METHOD_TAG, name)
+                .publishPercentileHistogram()
+                .register(registry);
+        return new MethodMeters(name, calls, latency);
+    }
+
+    private record MethodMeters(String name, Counter calls, Timer latency) {
+    }
+}
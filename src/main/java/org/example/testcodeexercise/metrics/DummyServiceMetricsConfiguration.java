@@ -0,0 +1,20 @@
+package org.example.testcodeexercise.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ *  dummy.metrics.enabled=true (기본값) 일 때 DummyService 계측을 등록
+ *  수집한 값은 /actuator/metrics, /actuator/prometheus 로 조회
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "dummy.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DummyServiceMetricsConfiguration {
+
+    @Bean
+    public DummyServiceMetricsAspect dummyServiceMetricsAspect(MeterRegistry registry) {
+        return new DummyServiceMetricsAspect(registry);
+    }
+}
@@ -1,27 +1,233 @@
 package org.example.testcodeexercise.service;
 
+import org.example.testcodeexercise.sink.LineSink;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
 @Service
 public class DummyService {
 
+    private static final int DUMMY_INT = 1;
+    private static final String DUMMY_PREFIX = "dummy ";
+    private static final byte[] DUMMY_PREFIX_UTF8 = DUMMY_PREFIX.getBytes(StandardCharsets.UTF_8);
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
+    private final LineSink lineSink;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     *  기본 생성자는 System.out에 동기적으로 출력 (Mockito spy 등 직접 생성하는 경우)
+     *  Spring 컨테이너에서는 AsyncLineSink를 주입받아 dummyMethod()의 출력을 비동기로 처리
+     */
+    public DummyService() {
+        this(LineSink.systemOut());
+    }
+
+    @Autowired
+    public DummyService(LineSink lineSink) {
+        this.lineSink = lineSink;
+    }
+
+    /**
+     *  배치 메서드가 fork-join 병렬 처리로 전환되는 입력 크기 (dummy.batch.parallel-threshold)
+     */
+    @Value("${dummy.batch.parallel-threshold:" + DEFAULT_PARALLEL_THRESHOLD + "}")
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallelThreshold must be positive: " + parallelThreshold);
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
     public String getDummy() {
         return "dummy";
     }
 
     public Integer getDummyInt() {
-        return 1;
+        return getDummyAsInt();
+    }
+
+    /**
+     *  getDummyInt()의 primitive 버전. boxing 없이 int를 반환
+     */
+    public int getDummyAsInt() {
+        return DUMMY_INT;
     }
 
     public void dummyMethod() {
-        System.out.println("dummy method");
+        lineSink.write("dummy method");
     }
 
     public String dummyMethodWithParam(String param) {
-        return "dummy " + param;
+        return DUMMY_PREFIX + param;
+    }
+
+    /**
+     *  dummyMethodWithParam(String)의 결과를 새 String을 만들지 않고 호출자가 전달한 버퍼에 이어 쓰는 버전
+     *  - 모두 전달받은 버퍼를 그대로 반환하여 체이닝 가능
+     *  - null 인자는 String 버전과 동일하게 "null"로 기록
+     *  - CharBuffer / ByteBuffer 버전은 남은 공간이 부족하면 아무것도 쓰지 않고 BufferOverflowException을 던짐
+     *  - ByteBuffer 버전은 UTF-8로 인코딩하며, 짝이 맞지 않는 surrogate는 String.getBytes()와 같이 '?'로 대체
+     */
+    public StringBuilder dummyMethodWithParam(String param, StringBuilder out) {
+        return out.append(DUMMY_PREFIX).append(param);
+    }
+
+    public <A extends Appendable> A dummyMethodWithParam(String param, A out) throws IOException {
+        out.append(DUMMY_PREFIX).append(param);
+        return out;
+    }
+
+    public CharBuffer dummyMethodWithParam(String param, CharBuffer out) {
+        String value = String.valueOf(param);
+        if (out.remaining() < DUMMY_PREFIX.length() + value.length()) {
+            throw new BufferOverflowException();
+        }
+        return out.put(DUMMY_PREFIX).put(value);
+    }
+
+    public ByteBuffer dummyMethodWithParam(String param, ByteBuffer out) {
+        String value = String.valueOf(param);
+        if (out.remaining() < DUMMY_PREFIX_UTF8.length + utf8Length(value)) {
+            throw new BufferOverflowException();
+        }
+        out.put(DUMMY_PREFIX_UTF8);
+        putUtf8(value, out);
+        return out;
+    }
+
+    /**
+     *  dummyMethodWithParam(String)을 입력의 각 원소에 적용한 결과를 입력과 같은 순서로 반환 (String 배치 처리)
+     *  - 결과 배열은 입력 크기로 한 번만 할당하고 한 번의 순회로 채움
+     *  - 입력 크기가 parallelThreshold 이상이면 fork-join common pool에서 병렬로 채움
+     *  - List 버전은 수정할 수 없는 List를 반환
+     */
+    public String[] dummyMethodWithParamBatch(String[] params) {
+        String[] result = new String[params.length];
+        if (params.length >= parallelThreshold) {
+            Arrays.parallelSetAll(result, i -> dummyMethodWithParam(params[i]));
+        } else {
+            for (int i = 0; i < params.length; i++) {
+                result[i] = dummyMethodWithParam(params[i]);
+            }
+        }
+        return result;
+    }
+
+    public List<String> dummyMethodWithParamBatch(List<String> params) {
+        if (!(params instanceof RandomAccess)) {
+            return Collections.unmodifiableList(Arrays.asList(dummyMethodWithParamBatch(params.toArray(new String[0]))));
+        }
+
+        String[] result = new String[params.size()];
+        if (result.length >= parallelThreshold) {
+            Arrays.parallelSetAll(result, i -> dummyMethodWithParam(params.get(i)));
+        } else {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = dummyMethodWithParam(params.get(i));
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
     }
 
     public Integer dummyMethodWithParamInt(Integer param) {
-        return 1 + param;
+        return dummyMethodWithParamAsInt(Objects.requireNonNull(param, "param must not be null"));
+    }
+
+    /**
+     *  dummyMethodWithParamInt(Integer)의 primitive 버전. 인자와 반환값 모두 boxing 없이 처리
+     */
+    public int dummyMethodWithParamAsInt(int param) {
+        return DUMMY_INT + param;
+    }
+
+    /**
+     *  dummyMethodWithParamAsInt(int)를 배열의 각 원소에 적용한 새 배열을 반환 (int 배치 처리)
+     *  - 입력 크기가 parallelThreshold 이상이면 fork-join common pool에서 병렬로 채움
+     */
+    public int[] dummyMethodWithParamAsInt(int[] params) {
+        int[] result = new int[params.length];
+        if (params.length >= parallelThreshold) {
+            Arrays.parallelSetAll(result, i -> dummyMethodWithParamAsInt(params[i]));
+        } else {
+            for (int i = 0; i < params.length; i++) {
+                result[i] = dummyMethodWithParamAsInt(params[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     *  dummyMethodWithParamAsInt(int)를 스트림의 각 원소에 적용 (지연 평가)
+     */
+    public IntStream dummyMethodWithParamAsInt(IntStream params) {
+        return params.map(this::dummyMethodWithParamAsInt);
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (isSurrogatePairAt(value, i)) {
+                    length += 4;
+                    i++;
+                } else {
+                    length += 1;
+                }
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void putUtf8(String value, ByteBuffer out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                if (isSurrogatePairAt(value, i)) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    out.put((byte) (0xF0 | (codePoint >> 18)));
+                    out.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    out.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    out.put((byte) (0x80 | (codePoint & 0x3F)));
+                } else {
+                    out.put((byte) '?');
+                }
+            } else {
+                out.put((byte) (0xE0 | (c >> 12)));
+                out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    private static boolean isSurrogatePairAt(String value, int index) {
+        return Character.isHighSurrogate(value.charAt(index))
+                && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1));
     }
 }
@@ -0,0 +1,221 @@
+package org.example.testcodeexercise.sink;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ *  고정 크기 ring buffer에 줄을 쌓고 백그라운드 writer 스레드가 batch 단위로 출력하는 LineSink
+ *  - 호출 스레드는 ring buffer에 CAS 한 번으로 기록하고 바로 반환 (PrintStream lock, I/O를 기다리지 않음)
+ *  - 여러 스레드가 동시에 기록할 수 있으며 (multi-producer), 소비는 writer 스레드 하나가 담당 (single-consumer)
+ *  - 버퍼가 가득 찼을 때의 동작은 OverflowPolicy로 지정하고, 버려진 줄 수는 getDroppedLines()로 확인
+ *  - close() 이후의 write()는 target에 동기적으로 출력
+ *  - 소비(drain)는 항상 이 객체의 lock을 잡고 batch 단위로 수행하므로, close() 이후에는 writer 스레드의 종료를 기다리지 않고
+ *    호출 스레드가 남은 줄을 직접 출력할 수 있음
+ */
+public class AsyncLineSink implements LineSink, AutoCloseable {
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final PrintStream target;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final int batchSize;
+
+    private final int mask;
+    private final String[] lines;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    private final LongAdder droppedLines = new LongAdder();
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+
+    public AsyncLineSink(PrintStream target, int capacity, OverflowPolicy overflowPolicy, int sampleRate, int batchSize) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2: " + capacity);
+        }
+        if (sampleRate < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("sampleRate and batchSize must be positive");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.target = target;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+        this.batchSize = batchSize;
+        this.mask = size - 1;
+        this.lines = new String[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.writer = new Thread(this::drainLoop, "async-line-sink");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void write(String line) {
+        if (closed) {
+            target.println(line);
+            return;
+        }
+        if (offer(line)) {
+            published();
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> offerBlocking(line);
+            case DROP -> droppedLines.increment();
+            case SAMPLE -> {
+                if (overflowCount.getAndIncrement() % sampleRate == 0) {
+                    offerBlocking(line);
+                } else {
+                    droppedLines.increment();
+                }
+            }
+        }
+    }
+
+    public long getDroppedLines() {
+        return droppedLines.sum();
+    }
+
+    public int getCapacity() {
+        return lines.length;
+    }
+
+    /**
+     *  writer 스레드를 종료하고, 버퍼에 남은 줄을 호출 스레드에서 모두 출력
+     *  - writer가 출력 중인 batch가 있으면 그 batch가 끝날 때까지만 대기 (interrupt되어도 버리는 줄 없음)
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        drainRemaining();
+    }
+
+    private boolean offer(String line) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    lines[index] = line;
+                    // writer의 writerParked 기록과 순서가 보장되도록 volatile 쓰기 사용 (wakeUpWriter 참고)
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private void offerBlocking(String line) {
+        while (!offer(line)) {
+            if (closed) {
+                target.println(line);
+                return;
+            }
+            wakeUpWriter();
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        published();
+    }
+
+    /**
+     *  close() 전에 closed를 확인하고 기록한 줄을 close()의 drain이 이미 지나간 뒤에 받았을 수 있으므로
+     *  기록 후 closed가 보이면 남은 줄을 직접 출력
+     *  (sequences와 closed가 모두 volatile이므로 close()의 drain이나 이 확인 중 하나는 반드시 그 줄을 봄)
+     */
+    private void published() {
+        wakeUpWriter();
+        if (closed) {
+            drainRemaining();
+        }
+    }
+
+    /**
+     *  버퍼에 남은 줄을 호출 스레드에서 모두 출력
+     */
+    private synchronized void drainRemaining() {
+        StringBuilder batch = new StringBuilder();
+        while (drainTo(batch) > 0) {
+            // 남은 줄이 없을 때까지 출력
+        }
+    }
+
+    private String poll() {
+        int index = (int) (head & mask);
+        if (sequences.getAcquire(index) != head + 1) {
+            return null;
+        }
+        String line = lines[index];
+        lines[index] = null;
+        sequences.setRelease(index, head + mask + 1);
+        head++;
+        return line;
+    }
+
+    private void wakeUpWriter() {
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     *  closed가 보이면 종료 (남은 줄은 close()와 그 이후의 write()가 출력)
+     */
+    private void drainLoop() {
+        StringBuilder batch = new StringBuilder();
+        while (!closed) {
+            int drained;
+            synchronized (this) {
+                drained = drainTo(batch);
+            }
+            if (drained > 0) {
+                continue;
+            }
+
+            writerParked = true;
+            if (sequences.get((int) (head & mask)) != head + 1 && !closed) {
+                LockSupport.park(this);
+            }
+            writerParked = false;
+        }
+    }
+
+    /**
+     *  batch 하나를 출력. 이 객체의 lock을 잡고 호출해야 함 (poll()의 head를 보호)
+     */
+    private int drainTo(StringBuilder batch) {
+        int count = 0;
+        String line;
+        while (count < batchSize && (line = poll()) != null) {
+            batch.append(line).append(System.lineSeparator());
+            count++;
+        }
+        if (count > 0) {
+            target.print(batch);
+            target.flush();
+            batch.setLength(0);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.testcodeexercise.sink;
+
+/**
+ *  한 줄 단위 출력 대상
+ */
+@FunctionalInterface
+public interface LineSink {
+
+    void write(String line);
+
+    /**
+     *  호출 시점의 System.out에 동기적으로 출력하는 LineSink
+     */
+    static LineSink systemOut() {
+        return line -> System.out.println(line);
+    }
+}
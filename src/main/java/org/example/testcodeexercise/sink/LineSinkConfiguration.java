@@ -0,0 +1,16 @@
+package org.example.testcodeexercise.sink;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(LineSinkProperties.class)
+public class LineSinkConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public AsyncLineSink asyncLineSink(LineSinkProperties properties) {
+        return new AsyncLineSink(System.out, properties.capacity(), properties.overflowPolicy(),
+                properties.sampleRate(), properties.batchSize());
+    }
+}
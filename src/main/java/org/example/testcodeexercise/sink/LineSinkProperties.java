@@ -0,0 +1,20 @@
+package org.example.testcodeexercise.sink;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ *  AsyncLineSink 설정 (dummy.sink.*)
+ *
+ *  @param capacity ring buffer 크기, 2의 거듭제곱으로 올림
+ *  @param overflowPolicy 버퍼가 가득 찼을 때의 처리 방식
+ *  @param sampleRate SAMPLE 정책에서 넘친 줄 중 몇 건마다 1건을 기록할지
+ *  @param batchSize writer 스레드가 한 번에 출력하는 최대 줄 수
+ */
+@ConfigurationProperties(prefix = "dummy.sink")
+public record LineSinkProperties(
+        @DefaultValue("8192") int capacity,
+        @DefaultValue("BLOCK") OverflowPolicy overflowPolicy,
+        @DefaultValue("100") int sampleRate,
+        @DefaultValue("256") int batchSize) {
+}
@@ -0,0 +1,13 @@
+package org.example.testcodeexercise.sink;
+
+/**
+ *  AsyncLineSink의 버퍼가 가득 찼을 때의 처리 방식
+ *  - BLOCK : 버퍼에 공간이 생길 때까지 호출한 스레드가 대기 (유실 없음)
+ *  - DROP : 즉시 버리고 유실 건수만 기록
+ *  - SAMPLE : 넘친 줄 중 sampleRate 건마다 1건만 대기 후 기록하고 나머지는 버림
+ */
+public enum OverflowPolicy {
+    BLOCK,
+    DROP,
+    SAMPLE
+}
@@ -0,0 +1,119 @@
+package org.example.testcodeexercise.startup;
+
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  StartupTimeline에서 threshold 이상 걸린 단계만 골라낸 결과
+ *  - steps() : 소요 시간 내림차순으로 정렬한 단계 목록 (JSON 출력용)
+ *  - collapsedStacks() : flame graph 도구(flamegraph.pl, speedscope 등)에서 읽을 수 있는 collapsed stack 형식
+ *    "부모 단계;자식 단계 self시간(us)" 형태이며, threshold 미만인 자식 단계의 시간은 부모의 self 시간에 포함
+ */
+public class StartupProfile {
+
+    private final Duration threshold;
+    private final List<Step> steps;
+    private final List<String> collapsedStacks;
+
+    private StartupProfile(Duration threshold, List<Step> steps, List<String> collapsedStacks) {
+        this.threshold = threshold;
+        this.steps = steps;
+        this.collapsedStacks = collapsedStacks;
+    }
+
+    public static StartupProfile of(StartupTimeline timeline, Duration threshold) {
+        Map<Long, TimelineEvent> eventsById = new HashMap<>();
+        for (TimelineEvent event : timeline.getEvents()) {
+            eventsById.put(event.getStartupStep().getId(), event);
+        }
+
+        List<TimelineEvent> kept = timeline.getEvents().stream()
+                .filter(event -> event.getDuration().compareTo(threshold) >= 0)
+                .toList();
+
+        Map<Long, Long> keptChildrenMicros = new HashMap<>();
+        for (TimelineEvent event : kept) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                keptChildrenMicros.merge(parentId, toMicros(event.getDuration()), Long::sum);
+            }
+        }
+
+        List<Step> steps = new ArrayList<>();
+        List<String> collapsedStacks = new ArrayList<>();
+        for (TimelineEvent event : kept) {
+            StartupStep step = event.getStartupStep();
+            steps.add(new Step(step.getId(), step.getParentId(), step.getName(), tags(step),
+                    event.getStartTime().toEpochMilli(), event.getDuration().toNanos() / 1_000_000.0));
+
+            long selfMicros = toMicros(event.getDuration()) - keptChildrenMicros.getOrDefault(step.getId(), 0L);
+            if (selfMicros > 0) {
+                collapsedStacks.add(stack(event, eventsById) + " " + selfMicros);
+            }
+        }
+        steps.sort(Comparator.comparingDouble(Step::durationMillis).reversed());
+        return new StartupProfile(threshold, steps, collapsedStacks);
+    }
+
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    public List<Step> steps() {
+        return steps;
+    }
+
+    public List<String> collapsedStacks() {
+        return collapsedStacks;
+    }
+
+    private static String stack(TimelineEvent event, Map<Long, TimelineEvent> eventsById) {
+        List<String> frames = new ArrayList<>();
+        TimelineEvent current = event;
+        while (current != null) {
+            frames.add(0, frame(current.getStartupStep()));
+            Long parentId = current.getStartupStep().getParentId();
+            current = parentId != null ? eventsById.get(parentId) : null;
+        }
+        return String.join(";", frames);
+    }
+
+    private static String frame(StartupStep step) {
+        String frame = step.getName();
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (tag.getKey().equals("beanName")) {
+                frame += "[" + tag.getValue() + "]";
+                break;
+            }
+        }
+        return frame.replace(';', ':').replace(' ', '_');
+    }
+
+    private static Map<String, String> tags(StartupStep step) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (StartupStep.Tag tag : step.getTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        return tags;
+    }
+
+    private static long toMicros(Duration duration) {
+        return duration.toNanos() / 1_000;
+    }
+
+    /**
+     *  @param startTime 단계 시작 시각 (epoch millis)
+     *  @param durationMillis 단계 소요 시간 (ms)
+     */
+    public record Step(long id, Long parentId, String name, Map<String, String> tags, long startTime, double durationMillis) {
+    }
+}
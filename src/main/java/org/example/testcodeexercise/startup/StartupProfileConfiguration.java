@@ -0,0 +1,23 @@
+package org.example.testcodeexercise.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(StartupProfileProperties.class)
+public class StartupProfileConfiguration {
+
+    @Bean
+    public StartupProfileExporter startupProfileExporter(ConfigurableApplicationContext context,
+                                                         StartupProfileProperties properties, ObjectMapper objectMapper) {
+        return new StartupProfileExporter(context, properties, objectMapper);
+    }
+
+    @Bean
+    public StartupProfileEndpoint startupProfileEndpoint(StartupProfileExporter exporter) {
+        return new StartupProfileEndpoint(exporter);
+    }
+}
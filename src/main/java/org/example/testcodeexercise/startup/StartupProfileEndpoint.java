@@ -0,0 +1,45 @@
+package org.example.testcodeexercise.startup;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ *  /actuator/startupprofile
+ *  - GET  [?thresholdMillis=N] : N ms 이상 걸린 기동 단계 목록 (기본값 dummy.startup.threshold)
+ *  - POST [thresholdMillis=N]  : JSON / collapsed stack 파일을 dummy.startup.directory 에 기록하고 경로 반환
+ *
+ *  기본 /actuator/startup 과 달리 기록된 단계를 비우지(drain) 않으므로 여러 번 조회할 수 있음
+ */
+@Endpoint(id = "startupprofile")
+public class StartupProfileEndpoint {
+
+    private final StartupProfileExporter exporter;
+
+    public StartupProfileEndpoint(StartupProfileExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @ReadOperation
+    public List<StartupProfile.Step> steps(@Nullable Long thresholdMillis) {
+        StartupProfile profile = exporter.profile(toDuration(thresholdMillis));
+        return profile != null ? profile.steps() : List.of();
+    }
+
+    @WriteOperation
+    public List<String> export(@Nullable Long thresholdMillis) {
+        return exporter.export(toDuration(thresholdMillis)).stream()
+                .map(Path::toAbsolutePath)
+                .map(Path::toString)
+                .toList();
+    }
+
+    private static Duration toDuration(Long thresholdMillis) {
+        return thresholdMillis != null ? Duration.ofMillis(thresholdMillis) : null;
+    }
+}
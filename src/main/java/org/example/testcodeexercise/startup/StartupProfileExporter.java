@@ -0,0 +1,83 @@
+package org.example.testcodeexercise.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  BufferingApplicationStartup에 기록된 기동 단계를 파일로 내보냄
+ *  - startup-steps.json : threshold 이상 걸린 단계 목록
+ *  - startup-steps.collapsed : flame graph용 collapsed stack
+ *  - dummy.startup.export-on-shutdown=true 이면 종료 시 자동으로 기록, 그 외에는 /actuator/startupprofile 로 요청
+ *  - TestCodeExerciseApplication.main() 으로 실행하지 않아 기록이 없으면 아무것도 하지 않음
+ */
+@Slf4j
+public class StartupProfileExporter implements ApplicationListener<ContextClosedEvent> {
+
+    static final String JSON_FILE = "startup-steps.json";
+    static final String COLLAPSED_FILE = "startup-steps.collapsed";
+
+    private final ConfigurableApplicationContext context;
+    private final StartupProfileProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public StartupProfileExporter(ConfigurableApplicationContext context, StartupProfileProperties properties, ObjectMapper objectMapper) {
+        this.context = context;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     *  기록된 단계 중 threshold 이상 걸린 단계. 기록이 없으면 null
+     */
+    public StartupProfile profile(Duration threshold) {
+        ApplicationStartup applicationStartup = context.getApplicationStartup();
+        if (!(applicationStartup instanceof BufferingApplicationStartup bufferingApplicationStartup)) {
+            return null;
+        }
+        return StartupProfile.of(bufferingApplicationStartup.getBufferedTimeline(), threshold != null ? threshold : properties.threshold());
+    }
+
+    /**
+     *  결과 파일을 기록하고 기록한 파일 경로를 반환
+     */
+    public List<Path> export(Duration threshold) {
+        StartupProfile profile = profile(threshold);
+        if (profile == null) {
+            log.warn("startup steps are not recorded, BufferingApplicationStartup is not configured");
+            return List.of();
+        }
+
+        try {
+            Files.createDirectories(properties.directory());
+            Path json = properties.directory().resolve(JSON_FILE);
+            Path collapsed = properties.directory().resolve(COLLAPSED_FILE);
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(json.toFile(),
+                    Map.of("thresholdMillis", profile.getThreshold().toMillis(), "steps", profile.steps()));
+            Files.write(collapsed, profile.collapsedStacks());
+            log.info("exported {} startup steps slower than {}ms to {}", profile.steps().size(), profile.getThreshold().toMillis(), properties.directory());
+            return List.of(json, collapsed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ContextClosedEvent event) {
+        if (properties.exportOnShutdown() && event.getApplicationContext() == context) {
+            export(null);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.testcodeexercise.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ *  기동 단계 기록 내보내기 설정 (dummy.startup.*)
+ *
+ *  @param threshold 이 시간 이상 걸린 단계만 내보냄
+ *  @param directory 결과 파일(startup-steps.json, startup-steps.collapsed)을 기록할 디렉터리
+ *  @param exportOnShutdown 애플리케이션 종료 시 결과 파일을 기록할지 여부
+ */
+@ConfigurationProperties(prefix = "dummy.startup")
+public record StartupProfileProperties(
+        @DefaultValue("5ms") Duration threshold,
+        @DefaultValue("build/startup") Path directory,
+        @DefaultValue("false") boolean exportOnShutdown) {
+}
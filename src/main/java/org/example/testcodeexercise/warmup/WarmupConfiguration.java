@@ -0,0 +1,24 @@
+package org.example.testcodeexercise.warmup;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ *  dummy.warmup.enabled=true 일 때 기동 시 JIT 워밍업(WarmupRunner) 실행
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication
+@ConditionalOnProperty(prefix = "dummy.warmup", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfiguration {
+
+    @Bean
+    public WarmupRunner warmupRunner(WebServerApplicationContext context, DummyService dummyService, WarmupProperties properties) {
+        return new WarmupRunner(context, dummyService, properties);
+    }
+}
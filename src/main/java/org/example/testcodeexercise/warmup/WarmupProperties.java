@@ -0,0 +1,27 @@
+package org.example.testcodeexercise.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ *  기동 시 JIT 워밍업 설정 (dummy.warmup.*)
+ *
+ *  @param enabled 워밍업 사용 여부
+ *  @param paths 워밍업 중 호출할 GET endpoint 경로
+ *  @param roundIterations 한 라운드에서 경로별로 보내는 요청 수 (서비스 메서드 호출 수도 동일)
+ *  @param settleThreshold 한 라운드 동안의 JIT 컴파일 시간이 이 값 이하이면 안정된 라운드로 판단
+ *  @param stableRounds 안정된 라운드가 연속으로 이 횟수만큼 나오면 워밍업 종료
+ *  @param maxDuration 컴파일이 안정되지 않아도 이 시간이 지나면 워밍업 종료
+ */
+@ConfigurationProperties(prefix = "dummy.warmup")
+public record WarmupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue({"/dummy", "/dummy/int", "/dummy/param/warmup", "/dummy/int/1000"}) List<String> paths,
+        @DefaultValue("500") int roundIterations,
+        @DefaultValue("10ms") Duration settleThreshold,
+        @DefaultValue("3") int stableRounds,
+        @DefaultValue("30s") Duration maxDuration) {
+}
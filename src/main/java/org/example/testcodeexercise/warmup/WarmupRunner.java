@@ -0,0 +1,144 @@
+package org.example.testcodeexercise.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.testcodeexercise.service.DummyService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  애플리케이션이 트래픽을 받기 전에 실제 endpoint와 DummyService 메서드를 반복 호출하여 JIT 컴파일을 유도
+ *  - ApplicationRunner는 ApplicationReadyEvent 전에 실행되므로, 워밍업이 끝나기 전까지
+ *    readiness 상태는 REFUSING_TRAFFIC (/actuator/health/readiness 가 503)
+ *  - 라운드마다 JIT 컴파일 시간 증가량을 확인하여 stableRounds 라운드 연속으로 settleThreshold 이하가 되면 종료
+ *  - 워밍업 소요 시간과 경로별 첫 라운드 / 마지막 라운드의 평균 응답 시간을 로그로 남김
+ *  - 워밍업 중 호출도 dummy.service.* 메트릭에 포함됨
+ *  - 요청이 실패하거나(I/O 오류) 2xx가 아닌 응답을 받은 경로는 경고를 남기고 이후 라운드에서 제외 (기동은 계속 진행)
+ */
+@Slf4j
+public class WarmupRunner implements ApplicationRunner {
+
+    private final WebServerApplicationContext context;
+    private final DummyService dummyService;
+    private final WarmupProperties properties;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    private final CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+
+    public WarmupRunner(WebServerApplicationContext context, DummyService dummyService, WarmupProperties properties) {
+        this.context = context;
+        this.dummyService = dummyService;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String baseUrl = "http://localhost:" + context.getWebServer().getPort();
+        boolean compilationMonitored = compilation != null && compilation.isCompilationTimeMonitoringSupported();
+        if (!compilationMonitored) {
+            log.info("JIT compilation time is not available, warm-up runs for {}", properties.maxDuration());
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + properties.maxDuration().toNanos();
+        Map<String, Double> firstRoundMicros = null;
+        Map<String, Double> lastRoundMicros = Map.of();
+        List<String> paths = new ArrayList<>(properties.paths());
+        int rounds = 0;
+        int stableRounds = 0;
+
+        while (stableRounds < properties.stableRounds() && System.nanoTime() - deadline < 0) {
+            long compilationBefore = compilationMonitored ? compilation.getTotalCompilationTime() : 0;
+
+            try {
+                lastRoundMicros = runRound(baseUrl, paths);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("warm-up interrupted after {} rounds", rounds);
+                return;
+            }
+            callServiceMethods();
+            rounds++;
+            if (firstRoundMicros == null) {
+                firstRoundMicros = lastRoundMicros;
+            }
+
+            if (compilationMonitored) {
+                long compilationMillis = compilation.getTotalCompilationTime() - compilationBefore;
+                stableRounds = compilationMillis <= properties.settleThreshold().toMillis() ? stableRounds + 1 : 0;
+            }
+        }
+
+        log.info("warm-up finished in {}ms after {} rounds (compilation settled: {})",
+                Duration.ofNanos(System.nanoTime() - start).toMillis(), rounds, stableRounds >= properties.stableRounds());
+        for (String path : lastRoundMicros.keySet()) {
+            log.info("warm-up GET {} average latency {}us -> {}us", path,
+                    String.format("%.1f", firstRoundMicros.get(path)), String.format("%.1f", lastRoundMicros.get(path)));
+        }
+    }
+
+    /**
+     *  @param paths 호출할 경로. 실패한 경로는 목록에서 제거
+     */
+    private Map<String, Double> runRound(String baseUrl, List<String> paths) throws InterruptedException {
+        Map<String, Double> averageMicros = new LinkedHashMap<>();
+        for (Iterator<String> iterator = paths.iterator(); iterator.hasNext(); ) {
+            String path = iterator.next();
+            long start = System.nanoTime();
+            if (callPath(baseUrl, path)) {
+                averageMicros.put(path, (System.nanoTime() - start) / 1_000.0 / properties.roundIterations());
+            } else {
+                iterator.remove();
+            }
+        }
+        return averageMicros;
+    }
+
+    /**
+     *  @return roundIterations 만큼 모두 2xx 응답을 받았으면 true
+     */
+    private boolean callPath(String baseUrl, String path) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        try {
+            for (int i = 0; i < properties.roundIterations(); i++) {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status < 200 || status >= 300) {
+                    log.warn("warm-up GET {} returned {}, skipping this path", path, status);
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("warm-up GET {} failed, skipping this path", path, e);
+            return false;
+        }
+    }
+
+    private void callServiceMethods() {
+        StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < properties.roundIterations(); i++) {
+            dummyService.getDummy();
+            dummyService.getDummyInt();
+            dummyService.dummyMethodWithParam("warmup");
+            dummyService.dummyMethodWithParamInt(i);
+            dummyService.dummyMethodWithParamAsInt(i);
+            buffer.setLength(0);
+            dummyService.dummyMethodWithParam("warmup", buffer);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.testcodeexercise.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ *  reactive 모드에서 blocking DummyService 호출(dummyMethod 등)을 실행할 Scheduler
+ *  - spring.threads.virtual.enabled=true (Java 21 이상) : 호출마다 가상 스레드를 생성하여 실행
+ *  - 그 외 : Reactor의 boundedElastic (platform 스레드 풀)
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class BlockingSchedulerConfiguration {
+
+    public static final String BLOCKING_SCHEDULER = "dummyBlockingScheduler";
+
+    @Bean(name = BLOCKING_SCHEDULER, destroyMethod = "dispose")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Scheduler virtualThreadBlockingScheduler() {
+        return Schedulers.fromExecutor(new VirtualThreadTaskExecutor("dummy-blocking-"));
+    }
+
+    @Bean(name = BLOCKING_SCHEDULER, destroyMethod = "")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Scheduler platformThreadBlockingScheduler() {
+        return Schedulers.boundedElastic();
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.testcodeexercise.web;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ *  DummyService의 각 메서드를 Mono / Flux로 감싸 응답하는 WebFlux handler
+ *  - dummyMethod()는 출력 sink가 가득 차면 대기할 수 있으므로 blocking 호출용 Scheduler에서 실행
+ *    (BlockingSchedulerConfiguration, 가상 스레드 모드에서는 가상 스레드)
+ *  - 스트리밍 endpoint는 요청 body의 각 줄에 dummyMethodWithParam을 적용하여 NDJSON으로 응답
+ *    요청 body는 streamPrefetch 건씩만 요청하고 동시 처리 수를 streamConcurrency로 제한하므로,
+ *    응답을 느리게 읽는 클라이언트에 대해 서버가 입력을 무한정 버퍼링하지 않음 (backpressure)
+ */
+@Component
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class DummyHandler {
+
+    private final DummyService dummyService;
+    private final DummyWebProperties properties;
+    private final Scheduler blockingScheduler;
+
+    public DummyHandler(DummyService dummyService, DummyWebProperties properties,
+                        @Qualifier(BlockingSchedulerConfiguration.BLOCKING_SCHEDULER) Scheduler blockingScheduler) {
+        this.dummyService = dummyService;
+        this.properties = properties;
+        this.blockingScheduler = blockingScheduler;
+    }
+
+    public Mono<ServerResponse> getDummy(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(Mono.fromSupplier(dummyService::getDummy), String.class);
+    }
+
+    public Mono<ServerResponse> getDummyInt(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.fromSupplier(dummyService::getDummyAsInt), Integer.class);
+    }
+
+    public Mono<ServerResponse> dummyMethod(ServerRequest request) {
+        return Mono.fromRunnable(dummyService::dummyMethod)
+                .subscribeOn(blockingScheduler)
+                .then(ServerResponse.noContent().build());
+    }
+
+    public Mono<ServerResponse> dummyMethodWithParam(ServerRequest request) {
+        String param = request.pathVariable("param");
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(Mono.fromSupplier(() -> dummyService.dummyMethodWithParam(param)), String.class);
+    }
+
+    public Mono<ServerResponse> dummyMethodWithParamInt(ServerRequest request) {
+        int param;
+        try {
+            param = Integer.parseInt(request.pathVariable("param"));
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().bodyValue("param must be an integer");
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.fromSupplier(() -> dummyService.dummyMethodWithParamAsInt(param)), Integer.class);
+    }
+
+    public Mono<ServerResponse> dummyMethodWithParamStream(ServerRequest request) {
+        Flux<String> results = request.bodyToFlux(String.class)
+                .limitRate(properties.streamPrefetch())
+                .flatMapSequential(param -> Mono.fromSupplier(() -> dummyService.dummyMethodWithParam(param)),
+                        properties.streamConcurrency(), properties.streamPrefetch());
+
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(results, String.class);
+    }
+}
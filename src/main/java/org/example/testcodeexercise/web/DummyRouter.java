@@ -0,0 +1,39 @@
+package org.example.testcodeexercise.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ *  DummyService endpoint (reactive 모드, spring.main.web-application-type=reactive)
+ *  - GET  /dummy               : getDummy()
+ *  - GET  /dummy/int           : getDummyInt()
+ *  - POST /dummy/method        : dummyMethod()
+ *  - GET  /dummy/param/{param} : dummyMethodWithParam(String)
+ *  - GET  /dummy/int/{param}   : dummyMethodWithParamInt(int)
+ *  - POST /dummy/stream        : 요청 body의 각 줄에 dummyMethodWithParam(String)을 적용하여 NDJSON으로 스트리밍
+ *
+ *  servlet 모드에서는 같은 endpoint를 DummyServletController가 제공
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableConfigurationProperties(DummyWebProperties.class)
+public class DummyRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> dummyRoutes(DummyHandler handler) {
+        return RouterFunctions.route()
+                .GET("/dummy", handler::getDummy)
+                .GET("/dummy/int", handler::getDummyInt)
+                .POST("/dummy/method", handler::dummyMethod)
+                .GET("/dummy/param/{param}", handler::dummyMethodWithParam)
+                .GET("/dummy/int/{param}", handler::dummyMethodWithParamInt)
+                .POST("/dummy/stream", handler::dummyMethodWithParamStream)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.testcodeexercise.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.testcodeexercise.service.DummyService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ *  DummyService endpoint (servlet 모드, spring.main.web-application-type=servlet)
+ *  - DummyRouter와 같은 경로와 응답 형식을 제공하므로 실행 모드와 관계없이 같은 클라이언트를 사용할 수 있음
+ *  - 스트리밍 endpoint는 요청 body를 한 줄씩 읽어 바로 응답에 기록하며, streamPrefetch 건마다 flush
+ *    blocking I/O로 읽고 쓰므로 클라이언트가 느리면 요청 body 읽기도 함께 멈춤 (버퍼링하지 않음)
+ */
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@EnableConfigurationProperties(DummyWebProperties.class)
+public class DummyServletController {
+
+    private final DummyService dummyService;
+    private final DummyWebProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public DummyServletController(DummyService dummyService, DummyWebProperties properties, ObjectMapper objectMapper) {
+        this.dummyService = dummyService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping(value = "/dummy", produces = MediaType.TEXT_PLAIN_VALUE)
+    public String getDummy() {
+        return dummyService.getDummy();
+    }
+
+    @GetMapping(value = "/dummy/int", produces = MediaType.APPLICATION_JSON_VALUE)
+    public int getDummyInt() {
+        return dummyService.getDummyAsInt();
+    }
+
+    @PostMapping("/dummy/method")
+    public ResponseEntity<Void> dummyMethod() {
+        dummyService.dummyMethod();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping(value = "/dummy/param/{param}", produces = MediaType.TEXT_PLAIN_VALUE)
+    public String dummyMethodWithParam(@PathVariable String param) {
+        return dummyService.dummyMethodWithParam(param);
+    }
+
+    @GetMapping(value = "/dummy/int/{param}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public int dummyMethodWithParamInt(@PathVariable int param) {
+        return dummyService.dummyMethodWithParamAsInt(param);
+    }
+
+    @PostMapping("/dummy/stream")
+    public void dummyMethodWithParamStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        BufferedReader reader = request.getReader();
+        PrintWriter writer = response.getWriter();
+        int pending = 0;
+        String param;
+        while ((param = reader.readLine()) != null) {
+            writer.write(objectMapper.writeValueAsString(dummyService.dummyMethodWithParam(param)));
+            writer.write('\n');
+            if (++pending == properties.streamPrefetch()) {
+                writer.flush();
+                pending = 0;
+            }
+        }
+        writer.flush();
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.testcodeexercise.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ *  DummyService HTTP endpoint 설정 (dummy.web.*)
+ *
+ *  @param streamConcurrency 스트리밍 endpoint에서 동시에 처리 중일 수 있는 최대 입력 수
+ *  @param streamPrefetch 스트리밍 endpoint가 요청 body에서 한 번에 요청(request)하는 입력 수
+ */
+@ConfigurationProperties(prefix = "dummy.web")
+public record DummyWebProperties(
+        @DefaultValue("16") int streamConcurrency,
+        @DefaultValue("32") int streamPrefetch) {
+}
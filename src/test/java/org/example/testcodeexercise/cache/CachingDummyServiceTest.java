@@ -0,0 +1,54 @@
+package org.example.testcodeexercise.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.example.testcodeexercise.sink.LineSink;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingDummyServiceTest {
+
+    private static CachingDummyService cachingDummyService(long maximumSize) {
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        return new CachingDummyService(LineSink.systemOut(), cache);
+    }
+
+    @Test
+    void cacheHitTest() {
+        CachingDummyService service = cachingDummyService(100);
+
+        String first = service.dummyMethodWithParam("test");
+        String second = service.dummyMethodWithParam("test");
+
+        assertEquals("dummy test", first);
+        assertSame(first, second);
+        CacheStats stats = service.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    void nullParamIsNotCachedTest() {
+        CachingDummyService service = cachingDummyService(100);
+
+        assertEquals("dummy null", service.dummyMethodWithParam(null));
+        assertEquals(0, service.stats().requestCount());
+    }
+
+    @Test
+    void evictionTest() {
+        CachingDummyService service = cachingDummyService(10);
+
+        for (int i = 0; i < 100; i++) {
+            service.dummyMethodWithParam("param" + i);
+        }
+
+        assertTrue(service.stats().evictionCount() >= 90);
+    }
+}
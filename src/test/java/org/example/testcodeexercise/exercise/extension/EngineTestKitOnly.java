@@ -0,0 +1,20 @@
+package org.example.testcodeexercise.exercise.extension;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *  확장 기능을 검증하는 테스트가 EngineTestKit으로 실행하는 fixture 클래스에 지정
+ *  - EngineTestKitOnlyCondition.engine()으로 시작한 실행에서만 활성화되고, Gradle / IDE 실행에서는 건너뜀
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(EngineTestKitOnlyCondition.class)
+public @interface EngineTestKitOnly {
+}
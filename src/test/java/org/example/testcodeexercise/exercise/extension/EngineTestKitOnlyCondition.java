@@ -0,0 +1,47 @@
+package org.example.testcodeexercise.exercise.extension;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import java.util.Map;
+
+/**
+ *  @EngineTestKitOnly 클래스는 engine()으로 시작한 실행에서만 활성화
+ *  - Launcher로 직접 실행할 때는 configurationParameters()를 같은 방식으로 전달
+ *  - engine()은 실행을 구분하는 configuration parameter를 설정하고, 바깥 실행의 -PtestProfile(system property)을
+ *    이어받아 같은 보고서 디렉터리에 기록하지 않도록 TestProfileExtension을 비활성화
+ */
+public class EngineTestKitOnlyCondition implements ExecutionCondition {
+
+    static final String PARAMETER = "exercise.engineTestKit";
+
+    /**
+     *  @EngineTestKitOnly 클래스를 실행할 junit-jupiter EngineTestKit (configurationParameter()로 설정 추가 가능)
+     */
+    public static EngineTestKit.Builder engine() {
+        return EngineTestKit.engine("junit-jupiter")
+                .configurationParameters(configurationParameters());
+    }
+
+    /**
+     *  @EngineTestKitOnly 클래스를 활성화하는 configuration parameter
+     */
+    public static Map<String, String> configurationParameters() {
+        return Map.of(
+                PARAMETER, "true",
+                TestProfileExtension.ENABLED_PARAMETER, "false");
+    }
+
+    static boolean isEngineTestKitRun(ExtensionContext context) {
+        return context.getConfigurationParameter(PARAMETER, Boolean::parseBoolean).orElse(false);
+    }
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        return isEngineTestKitRun(context)
+                ? ConditionEvaluationResult.enabled("run by EngineTestKit")
+                : ConditionEvaluationResult.disabled("fixture class run only by EngineTestKit");
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.testcodeexercise.exercise.extension;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *  @SharedFixture annotation : 생성 비용이 큰 fixture를 테스트 클래스 사이에서 공유하도록 지정
+ *  - 지정한 SharedFixtureFactory로 처음 사용할 때 한 번만 생성하고, 같은 factory를 지정한 모든 클래스(@Nested, 다른 테스트 클래스 포함)에 같은 객체를 주입
+ *  - static 필드는 @BeforeAll 전에, 인스턴스 필드는 테스트 인스턴스 생성 직후 주입
+ *  - 마지막으로 사용하는 클래스의 테스트가 끝나면 해제 (SharedFixtureExtension 참고)
+ *  - 테스트 클래스에 @ExtendWith(SharedFixtureExtension.class) 지정 필요 (@Nested 클래스는 바깥 클래스의 확장을 상속)
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SharedFixture {
+
+    Class<? extends SharedFixtureFactory<?>> value();
+}
@@ -0,0 +1,116 @@
+package org.example.testcodeexercise.exercise.extension;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestInstancePostProcessor;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ *  SharedFixtureExtension
+ *  - @SharedFixture 필드에 공유 fixture를 주입
+ *  - fixture는 SharedFixtureRegistry에서 factory별로 한 번만 생성하고, 필드를 선언한 테스트 클래스마다 참조 횟수를 관리
+ *  - 테스트 클래스(@Nested 포함)가 시작될 때 참조를 얻고, 클래스의 테스트가 모두 끝나 ExtensionContext가 닫힐 때 반환
+ *  - 실행할 테스트 계획(SharedFixturePlanListener)에 포함된 사용 클래스가 모두 끝나면 즉시 해제하고,
+ *    계획을 알 수 없으면 전체 테스트 실행이 끝날 때 해제
+ *
+ *  같은 Spring 설정을 사용하는 테스트의 ApplicationContext는 Spring TestContext가 캐시하므로 이 확장이 필요하지 않음
+ */
+public class SharedFixtureExtension implements BeforeAllCallback, TestInstancePostProcessor {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SharedFixtureExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) throws Exception {
+        List<Field> fields = fixtureFields(context.getRequiredTestClass());
+        if (fields.isEmpty()) {
+            return;
+        }
+        Lease lease = lease(context, context.getRequiredTestClass());
+        for (Field field : fields) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                inject(field, null, lease);
+            }
+        }
+    }
+
+    @Override
+    public void postProcessTestInstance(Object testInstance, ExtensionContext context) throws Exception {
+        List<Field> fields = fixtureFields(testInstance.getClass());
+        if (fields.isEmpty()) {
+            return;
+        }
+        Lease lease = lease(context, testInstance.getClass());
+        for (Field field : fields) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                inject(field, testInstance, lease);
+            }
+        }
+    }
+
+    private static void inject(Field field, Object target, Lease lease) throws IllegalAccessException {
+        Object fixture = lease.fixtures().get(factoryType(field));
+        if (!field.getType().isInstance(fixture)) {
+            throw new IllegalStateException("fixture " + fixture.getClass().getName() + " cannot be assigned to " + field);
+        }
+        field.setAccessible(true);
+        field.set(target, fixture);
+    }
+
+    /**
+     *  테스트 클래스의 ExtensionContext Store에 참조를 보관하여 클래스당 한 번만 참조를 얻음
+     *  - PER_CLASS 수명 주기에서는 테스트 인스턴스가 @BeforeAll 보다 먼저 생성되므로 먼저 호출된 쪽에서 참조를 얻음
+     */
+    private static Lease lease(ExtensionContext context, Class<?> testClass) {
+        ExtensionContext classContext = context;
+        while (classContext.getTestMethod().isPresent() || classContext.getTestClass().orElse(null) != testClass) {
+            classContext = classContext.getParent().orElseThrow(
+                    () -> new IllegalStateException("no extension context for " + testClass.getName()));
+        }
+        SharedFixtureRegistry registry = SharedFixtureRegistry.of(context.getRoot());
+        return classContext.getStore(NAMESPACE).getOrComputeIfAbsent(Lease.class,
+                key -> Lease.acquire(registry, testClass), Lease.class);
+    }
+
+    static List<Field> fixtureFields(Class<?> testClass) {
+        return AnnotationSupport.findAnnotatedFields(testClass, SharedFixture.class, field -> true, HierarchyTraversalMode.TOP_DOWN);
+    }
+
+    static Class<? extends SharedFixtureFactory<?>> factoryType(Field field) {
+        return field.getAnnotation(SharedFixture.class).value();
+    }
+
+    /**
+     *  테스트 클래스가 사용하는 factory별 fixture 참조. 클래스의 ExtensionContext가 닫힐 때 반환
+     */
+    private record Lease(SharedFixtureRegistry registry, Class<?> testClass,
+                         Map<Class<? extends SharedFixtureFactory<?>>, Object> fixtures) implements ExtensionContext.Store.CloseableResource {
+
+        static Lease acquire(SharedFixtureRegistry registry, Class<?> testClass) {
+            Set<Class<? extends SharedFixtureFactory<?>>> factoryTypes = fixtureFields(testClass).stream()
+                    .map(SharedFixtureExtension::factoryType)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Map<Class<? extends SharedFixtureFactory<?>>, Object> fixtures = new LinkedHashMap<>();
+            for (Class<? extends SharedFixtureFactory<?>> factoryType : factoryTypes) {
+                fixtures.put(factoryType, registry.acquire(factoryType, testClass));
+            }
+            return new Lease(registry, testClass, fixtures);
+        }
+
+        @Override
+        public void close() throws Throwable {
+            for (Class<? extends SharedFixtureFactory<?>> factoryType : fixtures.keySet()) {
+                registry.release(factoryType, testClass);
+            }
+        }
+    }
+}
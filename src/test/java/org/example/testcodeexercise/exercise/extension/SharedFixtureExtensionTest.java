@@ -0,0 +1,98 @@
+package org.example.testcodeexercise.exercise.extension;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ *  바깥 클래스, @Nested 클래스, 다른 테스트 클래스가 같은 fixture를 공유하고, 모두 끝난 뒤 한 번만 해제되는지 검증
+ */
+class SharedFixtureExtensionTest {
+
+    private static final AtomicInteger created = new AtomicInteger();
+    private static final AtomicInteger closed = new AtomicInteger();
+
+    @Test
+    void sharedFixtureTest() {
+        created.set(0);
+        closed.set(0);
+
+        EngineTestKitOnlyCondition.engine()
+                .selectors(selectClass(FirstFixture.class), selectClass(SecondFixture.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(3).succeeded(3));
+
+        assertEquals(1, created.get());
+        assertEquals(1, closed.get());
+    }
+
+    public static class CountingFixture implements AutoCloseable {
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+    }
+
+    public static class CountingFixtureFactory implements SharedFixtureFactory<CountingFixture> {
+
+        @Override
+        public CountingFixture create() {
+            created.incrementAndGet();
+            return new CountingFixture();
+        }
+    }
+
+    @ExtendWith(SharedFixtureExtension.class)
+    @EngineTestKitOnly
+    static class FirstFixture {
+
+        @SharedFixture(CountingFixtureFactory.class)
+        static CountingFixture staticFixture;
+
+        @SharedFixture(CountingFixtureFactory.class)
+        CountingFixture fixture;
+
+        @Test
+        void test() {
+            assertSame(staticFixture, fixture);
+            assertEquals(0, closed.get());
+        }
+
+        @Nested
+        class Inner {
+
+            @SharedFixture(CountingFixtureFactory.class)
+            CountingFixture innerFixture;
+
+            @Test
+            void nestedTest() {
+                assertSame(fixture, innerFixture);
+                assertEquals(0, closed.get());
+            }
+        }
+    }
+
+    @ExtendWith(SharedFixtureExtension.class)
+    @EngineTestKitOnly
+    static class SecondFixture {
+
+        @SharedFixture(CountingFixtureFactory.class)
+        CountingFixture fixture;
+
+        @Test
+        void test() {
+            assertNotNull(fixture);
+            assertEquals(1, created.get());
+            assertEquals(0, closed.get());
+        }
+    }
+}
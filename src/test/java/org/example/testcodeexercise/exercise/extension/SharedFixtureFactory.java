@@ -0,0 +1,20 @@
+package org.example.testcodeexercise.exercise.extension;
+
+/**
+ *  @SharedFixture 로 공유할 fixture의 생성과 해제
+ *  - 구현 클래스는 인자가 없는 생성자를 가져야 함
+ *  - create()는 테스트 실행 중 factory마다 한 번만 호출되며, 여러 스레드에서 동시에 사용되므로 fixture는 읽기 전용으로 사용하는 것이 안전
+ */
+public interface SharedFixtureFactory<T> {
+
+    T create() throws Exception;
+
+    /**
+     *  마지막 사용자가 끝났을 때 호출. 기본 구현은 AutoCloseable이면 close()
+     */
+    default void close(T fixture) throws Exception {
+        if (fixture instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.testcodeexercise.exercise.extension;
+
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *  실행할 테스트 계획에서 @SharedFixture 를 사용하는 테스트 클래스를 factory별로 수집
+ *  - SharedFixtureRegistry는 계획된 클래스가 모두 끝나면 fixture를 해제
+ *  - META-INF/services 로 Launcher에 등록되며, Launcher를 거치지 않는 실행(EngineTestKit 등)에서는 실행이 끝날 때 해제
+ *    계획은 static으로 보관하므로 Launcher 실행 도중에 시작한 EngineTestKit 실행에서도 보이며,
+ *    SharedFixtureRegistry가 EngineTestKitOnlyCondition.engine()으로 시작한 실행에서는 사용하지 않음
+ */
+public class SharedFixturePlanListener implements TestExecutionListener {
+
+    private static volatile Map<Class<?>, Set<Class<?>>> plannedUsers;
+
+    /**
+     *  factory를 사용하는 계획된 테스트 클래스. 계획을 알 수 없으면 null
+     */
+    static Set<Class<?>> plannedUsers(Class<?> factoryType) {
+        Map<Class<?>, Set<Class<?>>> planned = plannedUsers;
+        return planned == null ? null : planned.getOrDefault(factoryType, Set.of());
+    }
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        Map<Class<?>, Set<Class<?>>> planned = new HashMap<>();
+        Deque<TestIdentifier> identifiers = new ArrayDeque<>(testPlan.getRoots());
+        while (!identifiers.isEmpty()) {
+            TestIdentifier identifier = identifiers.pop();
+            identifiers.addAll(testPlan.getChildren(identifier));
+
+            TestSource source = identifier.getSource().orElse(null);
+            if (identifier.isContainer() && source instanceof ClassSource classSource) {
+                Class<?> testClass;
+                try {
+                    testClass = classSource.getJavaClass();
+                } catch (RuntimeException e) {
+                    continue;
+                }
+                for (Field field : SharedFixtureExtension.fixtureFields(testClass)) {
+                    planned.computeIfAbsent(SharedFixtureExtension.factoryType(field), key -> new HashSet<>()).add(testClass);
+                }
+            }
+        }
+        plannedUsers = planned;
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        plannedUsers = null;
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.testcodeexercise.exercise.extension;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *  factory별 공유 fixture와 참조 횟수
+ *  - 테스트 실행(root ExtensionContext)마다 하나씩 생성되며, 실행이 끝나 root context가 닫힐 때 남은 fixture를 모두 해제
+ *  - 병렬로 실행되는 테스트 클래스가 동시에 참조를 얻고 반환하므로 fixture마다 동기화
+ *  - SharedFixturePlanListener의 계획은 Launcher 실행 하나의 것이므로, 그 실행 도중에 EngineTestKitOnlyCondition.engine()으로
+ *    시작한 실행에서는 계획을 알 수 없는 것으로 처리
+ */
+@Slf4j
+class SharedFixtureRegistry implements ExtensionContext.Store.CloseableResource {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SharedFixtureRegistry.class);
+
+    private final Map<Class<?>, Holder> holders = new ConcurrentHashMap<>();
+    private final boolean planAvailable;
+
+    private SharedFixtureRegistry(boolean planAvailable) {
+        this.planAvailable = planAvailable;
+    }
+
+    static SharedFixtureRegistry of(ExtensionContext root) {
+        return root.getStore(NAMESPACE).getOrComputeIfAbsent(SharedFixtureRegistry.class,
+                key -> new SharedFixtureRegistry(!EngineTestKitOnlyCondition.isEngineTestKitRun(root)), SharedFixtureRegistry.class);
+    }
+
+    Object acquire(Class<? extends SharedFixtureFactory<?>> factoryType, Class<?> testClass) {
+        return holders.computeIfAbsent(factoryType, key -> new Holder(factoryType, planAvailable)).acquire(testClass);
+    }
+
+    void release(Class<? extends SharedFixtureFactory<?>> factoryType, Class<?> testClass) throws Exception {
+        Holder holder = holders.get(factoryType);
+        if (holder != null) {
+            holder.release(testClass);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Holder holder : holders.values()) {
+            holder.close();
+        }
+    }
+
+    private static final class Holder {
+
+        private final Class<? extends SharedFixtureFactory<?>> factoryType;
+        private final boolean planAvailable;
+        private final Set<Class<?>> finishedUsers = new HashSet<>();
+        private SharedFixtureFactory<Object> factory;
+        private Object fixture;
+        private int activeUsers;
+        private boolean unplannedUser;
+
+        Holder(Class<? extends SharedFixtureFactory<?>> factoryType, boolean planAvailable) {
+            this.factoryType = factoryType;
+            this.planAvailable = planAvailable;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized Object acquire(Class<?> testClass) {
+            if (fixture == null) {
+                try {
+                    factory = (SharedFixtureFactory<Object>) ReflectionSupport.newInstance(factoryType);
+                    fixture = factory.create();
+                } catch (Exception e) {
+                    throw new IllegalStateException("failed to create shared fixture with " + factoryType.getName(), e);
+                }
+                if (fixture == null) {
+                    throw new IllegalStateException(factoryType.getName() + " created null fixture");
+                }
+                log.info("created shared fixture {} for {}", factoryType.getSimpleName(), testClass.getName());
+            }
+            Set<Class<?>> plannedUsers = plannedUsers();
+            if (plannedUsers == null || !plannedUsers.contains(testClass)) {
+                unplannedUser = true;
+            }
+            activeUsers++;
+            return fixture;
+        }
+
+        /**
+         *  계획된 사용 클래스가 모두 끝났고 현재 사용 중인 클래스가 없으면 해제
+         */
+        synchronized void release(Class<?> testClass) throws Exception {
+            activeUsers--;
+            finishedUsers.add(testClass);
+            Set<Class<?>> plannedUsers = plannedUsers();
+            if (activeUsers == 0 && !unplannedUser && plannedUsers != null && finishedUsers.containsAll(plannedUsers)) {
+                close();
+            }
+        }
+
+        /**
+         *  계획된 사용 클래스. 계획을 알 수 없으면 null
+         */
+        private Set<Class<?>> plannedUsers() {
+            return planAvailable ? SharedFixturePlanListener.plannedUsers(factoryType) : null;
+        }
+
+        synchronized void close() throws Exception {
+            if (fixture != null) {
+                Object closing = fixture;
+                fixture = null;
+                log.info("released shared fixture {}", factoryType.getSimpleName());
+                factory.close(closing);
+            }
+        }
+    }
+}
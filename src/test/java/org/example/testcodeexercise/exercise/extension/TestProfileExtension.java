@@ -0,0 +1,151 @@
+package org.example.testcodeexercise.exercise.extension;
+
+import org.example.testcodeexercise.support.ThreadAllocationCounter;
+import org.junit.jupiter.api.extension.DynamicTestInvocationContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  TestProfileExtension
+ *  - 테스트 클래스 생성, @BeforeAll, @BeforeEach, 테스트 메서드, @AfterEach, @AfterAll 각 단계의 실행 시간과
+ *    해당 단계를 실행한 스레드의 할당 바이트를 측정 (@Nested 클래스 포함)
+ *  - 테스트 실행이 끝나면 TestProfileReport가 JSON 보고서와 flame graph용 collapsed stack 파일을 기록
+ *  - 측정하는 스레드의 할당량만 집계하므로, 테스트가 다른 스레드에 맡긴 작업의 할당량은 포함되지 않음
+ *
+ *  META-INF/services 로 등록되어 모든 테스트에 자동 적용되며, 설정 값이 있을 때만 측정
+ *  - testprofile.enabled=true : 측정 활성화 (./gradlew test -PtestProfile)
+ *  - testprofile.directory : 보고서를 기록할 디렉터리 (기본값 build/reports/test-profile)
+ */
+public class TestProfileExtension implements InvocationInterceptor {
+
+    static final String ENABLED_PARAMETER = "testprofile.enabled";
+    static final String DIRECTORY_PARAMETER = "testprofile.directory";
+    static final String DEFAULT_DIRECTORY = "build/reports/test-profile";
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TestProfileExtension.class);
+
+    @Override
+    public <T> T interceptTestClassConstructor(Invocation<T> invocation, ReflectiveInvocationContext<Constructor<T>> invocationContext,
+                                               ExtensionContext extensionContext) throws Throwable {
+        return profile(invocation, Phase.CONSTRUCTOR, invocationContext.getExecutable().getDeclaringClass().getSimpleName(), extensionContext);
+    }
+
+    @Override
+    public void interceptBeforeAllMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                         ExtensionContext extensionContext) throws Throwable {
+        profile(invocation, Phase.BEFORE_ALL, invocationContext.getExecutable().getName(), extensionContext);
+    }
+
+    @Override
+    public void interceptBeforeEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                          ExtensionContext extensionContext) throws Throwable {
+        profile(invocation, Phase.BEFORE_EACH, invocationContext.getExecutable().getName(), extensionContext);
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        profile(invocation, Phase.TEST, invocationContext.getExecutable().getName(), extensionContext);
+    }
+
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        profile(invocation, Phase.TEST, invocationContext.getExecutable().getName(), extensionContext);
+    }
+
+    @Override
+    public <T> T interceptTestFactoryMethod(Invocation<T> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        return profile(invocation, Phase.TEST, invocationContext.getExecutable().getName(), extensionContext);
+    }
+
+    @Override
+    public void interceptDynamicTest(Invocation<Void> invocation, DynamicTestInvocationContext invocationContext,
+                                     ExtensionContext extensionContext) throws Throwable {
+        profile(invocation, Phase.TEST, "dynamicTest", extensionContext);
+    }
+
+    @Override
+    public void interceptAfterEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                         ExtensionContext extensionContext) throws Throwable {
+        profile(invocation, Phase.AFTER_EACH, invocationContext.getExecutable().getName(), extensionContext);
+    }
+
+    @Override
+    public void interceptAfterAllMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                        ExtensionContext extensionContext) throws Throwable {
+        profile(invocation, Phase.AFTER_ALL, invocationContext.getExecutable().getName(), extensionContext);
+    }
+
+    private <T> T profile(Invocation<T> invocation, Phase phase, String name, ExtensionContext context) throws Throwable {
+        if (!context.getConfigurationParameter(ENABLED_PARAMETER, Boolean::parseBoolean).orElse(false)) {
+            return invocation.proceed();
+        }
+
+        TestProfileReport report = report(context);
+        long allocatedBefore = ThreadAllocationCounter.currentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            long durationNanos = System.nanoTime() - start;
+            long allocatedAfter = ThreadAllocationCounter.currentThreadAllocatedBytes();
+            report.add(new TestProfileReport.Sample(context.getUniqueId(), path(context), phase, name, Thread.currentThread().getName(),
+                    durationNanos, allocatedBefore >= 0 ? allocatedAfter - allocatedBefore : -1, failed));
+        }
+    }
+
+    /**
+     *  실행 전체에서 하나의 보고서를 공유하도록 root context의 Store에 보관
+     *  - 모든 테스트가 끝나 root context가 닫힐 때 TestProfileReport.close() 에서 파일 기록
+     */
+    private static TestProfileReport report(ExtensionContext context) {
+        Path directory = Path.of(context.getConfigurationParameter(DIRECTORY_PARAMETER).orElse(DEFAULT_DIRECTORY));
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(TestProfileReport.class, key -> new TestProfileReport(directory), TestProfileReport.class);
+    }
+
+    /**
+     *  테스트 클래스 → @Nested 클래스 → 테스트 메서드 순서의 경로 (root인 엔진은 제외)
+     */
+    private static List<String> path(ExtensionContext context) {
+        List<String> path = new ArrayList<>();
+        ExtensionContext current = context;
+        while (current.getParent().isPresent()) {
+            boolean classContext = current.getTestMethod().isEmpty() && current.getTestClass().isPresent();
+            path.add(0, classContext ? current.getRequiredTestClass().getSimpleName() : current.getDisplayName());
+            current = current.getParent().get();
+        }
+        return path;
+    }
+
+    enum Phase {
+        CONSTRUCTOR("<init>"),
+        BEFORE_ALL("@BeforeAll"),
+        BEFORE_EACH("@BeforeEach"),
+        TEST("@Test"),
+        AFTER_EACH("@AfterEach"),
+        AFTER_ALL("@AfterAll");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        String label() {
+            return label;
+        }
+    }
+}
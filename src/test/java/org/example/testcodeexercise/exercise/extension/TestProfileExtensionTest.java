@@ -0,0 +1,116 @@
+package org.example.testcodeexercise.exercise.extension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ *  ProfiledFixture를 EngineTestKit으로 실행하여 TestProfileExtension이 기록한 보고서 검증
+ */
+class TestProfileExtensionTest {
+
+
+    @Test
+    void reportTest(@TempDir Path directory) throws IOException {
+        // when
+        EngineTestKitOnlyCondition.engine()
+                .configurationParameter("junit.jupiter.extensions.autodetection.enabled", "false")
+                .configurationParameter(TestProfileExtension.ENABLED_PARAMETER, "true")
+                .configurationParameter(TestProfileExtension.DIRECTORY_PARAMETER, directory.toString())
+                .selectors(selectClass(ProfiledFixture.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(2).succeeded(2));
+
+        // then
+        JsonNode report = new ObjectMapper().readTree(directory.resolve(TestProfileReport.JSON_FILE).toFile());
+        List<String> stacks = new ArrayList<>();
+        for (JsonNode sample : report.get("samples")) {
+            stacks.add(String.join(";", textValues(sample.get("path"))) + " " + sample.get("phase").asText() + " " + sample.get("name").asText());
+        }
+        assertTrue(stacks.contains("ProfiledFixture BEFORE_ALL beforeAll"));
+        assertTrue(stacks.contains("ProfiledFixture;test() BEFORE_EACH beforeEach"));
+        assertTrue(stacks.contains("ProfiledFixture;test() TEST test"));
+        assertTrue(stacks.contains("ProfiledFixture;test() AFTER_EACH afterEach"));
+        assertTrue(stacks.contains("ProfiledFixture;Inner;nestedTest() BEFORE_EACH beforeEach"));   // 바깥 클래스의 @BeforeEach
+        assertTrue(stacks.contains("ProfiledFixture;Inner;nestedTest() BEFORE_EACH nestedBeforeEach"));
+        assertTrue(stacks.contains("ProfiledFixture;Inner;nestedTest() TEST nestedTest"));
+        assertTrue(stacks.contains("ProfiledFixture AFTER_ALL afterAll"));
+        assertEquals("ProfiledFixture", report.get("classes").get(0).get("testClass").asText());
+
+        for (JsonNode sample : report.get("samples")) {
+            if (sample.get("name").asText().equals("test")) {
+                assertTrue(sample.get("allocatedBytes").asLong() >= ProfiledFixture.ALLOCATION);
+            }
+        }
+
+        List<String> collapsed = Files.readAllLines(directory.resolve(TestProfileReport.COLLAPSED_FILE));
+        assertTrue(collapsed.stream().anyMatch(line -> line.startsWith("ProfiledFixture;Inner;nestedTest();@Test_nestedTest ")));
+        List<String> allocationCollapsed = Files.readAllLines(directory.resolve(TestProfileReport.ALLOCATION_COLLAPSED_FILE));
+        assertTrue(allocationCollapsed.stream().anyMatch(line -> line.startsWith("ProfiledFixture;test();@Test_test ")));
+    }
+
+    private static List<String> textValues(JsonNode array) {
+        List<String> values = new ArrayList<>();
+        array.forEach(node -> values.add(node.asText()));
+        return values;
+    }
+
+    @ExtendWith(TestProfileExtension.class)
+    @EngineTestKitOnly
+    static class ProfiledFixture {
+
+        static final int ALLOCATION = 1 << 20;
+        static volatile byte[] allocated;
+
+        @BeforeAll
+        static void beforeAll() {
+        }
+
+        @BeforeEach
+        void beforeEach() {
+        }
+
+        @Test
+        void test() {
+            allocated = new byte[ALLOCATION];
+        }
+
+        @AfterEach
+        void afterEach() {
+        }
+
+        @AfterAll
+        static void afterAll() {
+        }
+
+        @Nested
+        class Inner {
+
+            @BeforeEach
+            void nestedBeforeEach() {
+            }
+
+            @Test
+            void nestedTest() {
+            }
+        }
+    }
+}
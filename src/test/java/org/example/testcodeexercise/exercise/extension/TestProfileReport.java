@@ -0,0 +1,115 @@
+package org.example.testcodeexercise.exercise.extension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ *  TestProfileExtension이 측정한 결과를 모아 테스트 실행이 끝날 때 파일로 기록
+ *  - test-profile.json : 테스트 클래스별 합계와 단계별 측정 결과 (소요 시간 내림차순)
+ *  - test-profile.collapsed : 실행 시간(us) 기준 collapsed stack ("테스트 클래스;@Nested 클래스;테스트 메서드;단계 값")
+ *  - test-profile-alloc.collapsed : 할당 바이트 기준 collapsed stack
+ *  - 병렬로 실행되는 테스트에서 동시에 기록하므로 ConcurrentLinkedQueue에 보관
+ */
+class TestProfileReport implements ExtensionContext.Store.CloseableResource {
+
+    static final String JSON_FILE = "test-profile.json";
+    static final String COLLAPSED_FILE = "test-profile.collapsed";
+    static final String ALLOCATION_COLLAPSED_FILE = "test-profile-alloc.collapsed";
+
+    private final Path directory;
+    private final Queue<Sample> samples = new ConcurrentLinkedQueue<>();
+
+    TestProfileReport(Path directory) {
+        this.directory = directory;
+    }
+
+    void add(Sample sample) {
+        samples.add(sample);
+    }
+
+    @Override
+    public void close() throws IOException {
+        List<Sample> sorted = new ArrayList<>(samples);
+        sorted.sort(Comparator.comparingLong(Sample::durationNanos).reversed());
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("totalNanos", sorted.stream().mapToLong(Sample::durationNanos).sum());
+        json.put("totalAllocatedBytes", sorted.stream().mapToLong(sample -> Math.max(sample.allocatedBytes(), 0)).sum());
+        json.put("classes", classTotals(sorted));
+        json.put("samples", sorted);
+
+        Files.createDirectories(directory);
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(directory.resolve(JSON_FILE).toFile(), json);
+        Files.write(directory.resolve(COLLAPSED_FILE), collapsedStacks(sorted, sample -> sample.durationNanos() / 1_000));
+        Files.write(directory.resolve(ALLOCATION_COLLAPSED_FILE), collapsedStacks(sorted, Sample::allocatedBytes));
+    }
+
+    private static List<ClassTotal> classTotals(List<Sample> samples) {
+        Map<String, List<Sample>> byClass = samples.stream()
+                .filter(sample -> !sample.path().isEmpty())
+                .collect(Collectors.groupingBy(sample -> sample.path().get(0)));
+        return byClass.entrySet().stream()
+                .map(entry -> new ClassTotal(entry.getKey(),
+                        entry.getValue().stream().mapToLong(Sample::durationNanos).sum(),
+                        entry.getValue().stream().mapToLong(sample -> Math.max(sample.allocatedBytes(), 0)).sum()))
+                .sorted(Comparator.comparingLong(ClassTotal::durationNanos).reversed())
+                .toList();
+    }
+
+    /**
+     *  같은 stack의 값은 합산하며, 값이 0 이하인 stack은 제외
+     */
+    static List<String> collapsedStacks(List<Sample> samples, ToLongFunction<Sample> value) {
+        Map<String, Long> stacks = new TreeMap<>();
+        for (Sample sample : samples) {
+            long sampleValue = value.applyAsLong(sample);
+            if (sampleValue > 0) {
+                stacks.merge(sample.stack(), sampleValue, Long::sum);
+            }
+        }
+        return stacks.entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue())
+                .toList();
+    }
+
+    /**
+     *  @param uniqueId 측정한 ExtensionContext의 unique id
+     *  @param path 테스트 클래스 → @Nested 클래스 → 테스트 메서드 경로
+     *  @param name 실행된 메서드 이름 (생성자는 클래스 이름)
+     *  @param allocatedBytes 단계를 실행한 스레드의 할당 바이트 (측정할 수 없는 JVM이면 -1)
+     *  @param failed 단계 실행 중 예외 발생 여부
+     */
+    record Sample(String uniqueId, List<String> path, TestProfileExtension.Phase phase, String name, String thread,
+                  long durationNanos, long allocatedBytes, boolean failed) {
+
+        String stack() {
+            List<String> frames = new ArrayList<>(path.size() + 1);
+            for (String frame : path) {
+                frames.add(frame(frame));
+            }
+            frames.add(frame(phase.label() + " " + name));
+            return String.join(";", frames);
+        }
+
+        private static String frame(String frame) {
+            return frame.replace(';', ':').replace(' ', '_');
+        }
+    }
+
+    record ClassTotal(String testClass, long durationNanos, long allocatedBytes) {
+    }
+}
@@ -3,15 +3,22 @@ package org.example.testcodeexercise.exercise.extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 
-public class TestToFailExtension implements TestExecutionExceptionHandler{
+/**
+ *  TestToFailExtension
+ *  - @TestToFail 어노테이션이 붙은 테스트 메서드의 실패를 성공으로 처리
+ *  - 필드 등 공유 상태를 가지지 않고 전달받은 ExtensionContext만 사용하므로, 테스트를 병렬로 실행해도 안전
+ *    (TestToFailExtensionTest에서 여러 테스트를 동시에 실행하여 검증)
+ */
+public class TestToFailExtension implements TestExecutionExceptionHandler {
 
     @Override
     public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
 
         // @TestToFail 어노테이션이 붙은 테스트 메서드가 실행될 때 예외가 발생하면, 예외를 다시 던지지 않고 테스트를 성공으로 처리
-        if (context.getTestMethod().isPresent() &&
-            context.getTestMethod().get().isAnnotationPresent(TestToFail.class) &&
-            !(throwable instanceof UnintendedSuccessException)) {
+        boolean testToFail = context.getTestMethod()
+                .map(method -> method.isAnnotationPresent(TestToFail.class))
+                .orElse(false);
+        if (testToFail && !(throwable instanceof UnintendedSuccessException)) {
             return;
         }
 
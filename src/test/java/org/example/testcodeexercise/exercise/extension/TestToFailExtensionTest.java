@@ -0,0 +1,93 @@
+package org.example.testcodeexercise.exercise.extension;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ *  TestToFailExtension을 적용한 테스트들을 병렬로 실행해도 각 테스트의 결과가 올바르게 처리되는지 검증
+ *  - ConcurrentFixture의 모든 테스트는 CyclicBarrier에서 서로를 기다리므로 반드시 동시에 실행됨
+ *  - ConcurrentFixture는 EngineTestKit으로 실행할 때만 활성화됨
+ */
+class TestToFailExtensionTest {
+
+    private static final int FIXTURE_TESTS = 8;
+
+    @Test
+    void concurrentExecutionTest() {
+        EngineTestKitOnlyCondition.engine()
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", String.valueOf(FIXTURE_TESTS))
+                .selectors(selectClass(ConcurrentFixture.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(FIXTURE_TESTS).succeeded(4).failed(4));
+    }
+
+    @ExtendWith(TestToFailExtension.class)
+    @EngineTestKitOnly
+    static class ConcurrentFixture {
+
+        private static final CyclicBarrier barrier = new CyclicBarrier(FIXTURE_TESTS);
+
+        private static void awaitAll() throws Exception {
+            barrier.await(10, TimeUnit.SECONDS);
+        }
+
+        // 성공 처리되어야 하는 테스트 (4)
+        @TestToFail
+        void expectedFailure1() throws Exception {
+            awaitAll();
+            assertEquals(1, 2);
+        }
+
+        @TestToFail
+        void expectedFailure2() throws Exception {
+            awaitAll();
+            throw new IllegalStateException();
+        }
+
+        @TestToFail
+        void expectedFailure3() throws Exception {
+            awaitAll();
+            assertEquals("a", "b");
+        }
+
+        @Test
+        void success() throws Exception {
+            awaitAll();
+        }
+
+        // 실패 처리되어야 하는 테스트 (4)
+        @TestToFail
+        void unintendedSuccess1() throws Exception {
+            awaitAll();
+            throw new UnintendedSuccessException();
+        }
+
+        @TestToFail
+        void unintendedSuccess2() throws Exception {
+            awaitAll();
+            throw new UnintendedSuccessException();
+        }
+
+        @Test
+        void failure1() throws Exception {
+            awaitAll();
+            assertEquals(1, 2);
+        }
+
+        @Test
+        void failure2() throws Exception {
+            awaitAll();
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -4,6 +4,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.testcodeexercise.exercise.extension.TestToFail;
 import org.example.testcodeexercise.exercise.extension.TestToFailExtension;
 import org.example.testcodeexercise.exercise.extension.UnintendedSuccessException;
+import org.example.testcodeexercise.support.AllocationAssertions;
+import org.example.testcodeexercise.support.LatencyAssertions;
+import org.example.testcodeexercise.support.LatencyHistogram;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -179,4 +183,60 @@ public class JUnitAssertionsExerciseTest {
 
         throw new UnintendedSuccessException();
     }
+
+    /**
+     *  assertAllocatesAtMost (AllocationAssertions)
+     *  - 실행 코드가 호출당 할당하는 바이트 수가 지정한 값 이하인지 검증
+     *  - 워밍업 후 여러 번 반복 측정하여 가장 적게 할당한 측정값을 사용하므로, GC나 JIT 컴파일로 인한 일시적인 할당에 영향받지 않음
+     *  - assertDoesNotAllocate : 할당이 전혀 없어야 하는 경우
+     */
+    @Test
+    void assertAllocatesAtMostTest() {
+        StringBuilder builder = new StringBuilder(64);
+
+        AllocationAssertions.assertDoesNotAllocate(() -> {
+            builder.setLength(0);
+            builder.append("dummy ").append(42);
+        });
+        AllocationAssertions.assertAllocatesAtMost(128, () -> allocated = new byte[64]);
+    }
+
+    @TestToFail
+    void assertAllocatesAtMostFailTest() {
+        AllocationAssertions.assertAllocatesAtMost(16, () -> allocated = new byte[64]);
+
+        throw new UnintendedSuccessException();
+    }
+
+    /**
+     *  assertLatency (LatencyAssertions)
+     *  - assertTimeout은 한 번의 실행 시간만 검증하지만, assertLatency는 워밍업 후 여러 번(여러 스레드에서) 실행한 시간의 분포를 검증
+     *  - Thresholds(p50, p99, max) : 중앙값, 99 백분위, 최댓값 기준 (null이면 검증하지 않음)
+     *  - 검증에 실패하면 측정한 분포를 막대 그래프로 실패 메시지에 출력
+     *  - 절대 시간 기준이라 부하가 걸린 환경에서는 실패할 수 있으므로 기본 테스트에서는 제외 (./gradlew test -PlatencyTest 로 실행)
+     */
+    @Test
+    @Tag("latency")
+    void assertLatencyTest() {
+        LatencyHistogram histogram = LatencyAssertions.assertLatency(
+                new LatencyAssertions.Settings(1_000, 1_000, 2),
+                new LatencyAssertions.Thresholds(Duration.ofMillis(1), Duration.ofMillis(10), null),
+                () -> List.of("dummy", "test").contains("test"));
+
+        assertEquals(2_000, histogram.count());
+        log.info("assertLatency 측정 결과\n{}", histogram);
+    }
+
+    @TestToFail
+    void assertLatencyFailTest() {
+        LatencyAssertions.assertLatency(
+                new LatencyAssertions.Settings(0, 20, 1),
+                new LatencyAssertions.Thresholds(Duration.ofMillis(1), null, null),
+                () -> Thread.sleep(2));
+
+        throw new UnintendedSuccessException();
+    }
+
+    // 할당한 배열이 escape analysis로 제거되지 않도록 필드에 저장
+    private static volatile byte[] allocated;
 }
@@ -1,7 +1,13 @@
 package org.example.testcodeexercise.exercise.junit;
 
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 
+/**
+ *  수명 주기 메서드의 실행 순서를 출력으로 확인하는 테스트이므로, 병렬 실행 설정과 관계없이 한 스레드에서 순서대로 실행
+ */
+@Execution(ExecutionMode.SAME_THREAD)
 public class JUnitNestedExerciseTest {
 
     @BeforeAll
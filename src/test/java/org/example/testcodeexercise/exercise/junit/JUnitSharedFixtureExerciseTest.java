@@ -0,0 +1,58 @@
+package org.example.testcodeexercise.exercise.junit;
+
+import org.example.testcodeexercise.exercise.extension.SharedFixture;
+import org.example.testcodeexercise.exercise.extension.SharedFixtureExtension;
+import org.example.testcodeexercise.exercise.extension.SharedFixtureFactory;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ *  @SharedFixture (SharedFixtureExtension)
+ *  - @BeforeAll 에서 만든 fixture는 선언한 클래스에서만 사용할 수 있고, 클래스마다 다시 생성해야 함
+ *  - @SharedFixture 를 지정한 필드는 factory가 한 번만 생성한 fixture를 @Nested 클래스, 다른 테스트 클래스와 공유
+ *  - 공유하는 모든 클래스의 테스트가 끝나면 SharedFixtureFactory.close()로 해제
+ */
+@ExtendWith(SharedFixtureExtension.class)
+public class JUnitSharedFixtureExerciseTest {
+
+    private static final AtomicInteger createCount = new AtomicInteger();
+
+    public static class DatasetFactory implements SharedFixtureFactory<List<String>> {
+
+        @Override
+        public List<String> create() {
+            createCount.incrementAndGet();
+            return IntStream.range(0, 100_000).mapToObj(i -> "param" + i).toList();
+        }
+    }
+
+    @SharedFixture(DatasetFactory.class)
+    static List<String> dataset;
+
+    @Test
+    void sharedFixtureTest() {
+        assertEquals(100_000, dataset.size());
+        assertEquals(1, createCount.get());
+    }
+
+    @Nested
+    class NestedTest {
+
+        @SharedFixture(DatasetFactory.class)
+        List<String> nestedDataset;
+
+        @Test
+        void nestedSharedFixtureTest() {
+            assertSame(dataset, nestedDataset);   // 다시 생성하지 않고 같은 객체를 주입
+            assertEquals(1, createCount.get());
+        }
+    }
+}
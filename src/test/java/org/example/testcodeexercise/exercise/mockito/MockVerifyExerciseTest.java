@@ -4,14 +4,18 @@ import org.example.testcodeexercise.exercise.extension.TestToFail;
 import org.example.testcodeexercise.exercise.extension.TestToFailExtension;
 import org.example.testcodeexercise.exercise.extension.UnintendedSuccessException;
 import org.example.testcodeexercise.service.DummyService;
+import org.example.testcodeexercise.support.BoundedArgumentCaptor;
+import org.example.testcodeexercise.support.VirtualScheduler;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.mockito.Mockito.*;
 
@@ -163,53 +167,61 @@ public class MockVerifyExerciseTest {
      *  timeout vs after
      *  - timeout : 지정된 시간이 다 지나기 전에 검증에 성공하면 즉시 통과 처리
      *  - after : 지정된 시간을 기다렸다가 검증 처리
+     *
+     *  비동기 작업의 지연은 VirtualScheduler의 가상 시간으로 대체
+     *  - 지연된 작업은 advanceBy()로 가상 시간을 진행시켜야만 실행되므로, timeout / after가 실제로 기다리는 동안 결과가 바뀌지 않음
+     *  - timeout / after에는 실제 시간(ms)을 지정하므로, 지연 시간과 관계없이 작은 값으로 충분
      */
     @Test
-    void mockitoVerifyTimeoutTest() {
+    void mockitoVerifyTimeoutTest() throws InterruptedException {
         // given
         DummyService dummyService = mock(DummyService.class);
+        VirtualScheduler scheduler = new VirtualScheduler();
 
         // when
         dummyService.dummyMethod();
 
         CompletableFuture.runAsync(() -> {
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-
             dummyService.dummyMethod();
             dummyService.dummyMethod();
-        });
+        }, scheduler.delayedExecutor(Duration.ofMillis(100)));
 
         // then
-        verify(dummyService, times(1)).dummyMethod();   // 이 시점에는 1회밖에 호출되지 않음
-        verify(dummyService, timeout(150).times(3)).dummyMethod();
+        verify(dummyService, timeout(10).times(1)).dummyMethod();   // 가상 시간이 흐르지 않았으므로 1회만 호출됨
+
+        // 다른 스레드에서 가상 시간을 진행시키면, timeout은 호출이 3회가 될 때까지 기다렸다가 바로 통과
+        Thread advancer = new Thread(() -> scheduler.advanceBy(Duration.ofMillis(100)));
+        advancer.start();
+        verify(dummyService, timeout(1_000).times(3)).dummyMethod();
+        advancer.join();
     }
 
+    /**
+     *  after(n)은 n ms 동안 기다린 뒤에 검증하므로, 그동안 조건이 계속 유지되는지 확인할 때 사용
+     *  - 가상 시간이 지연 시간(100ms)에 도달하기 전에는 after로 아무리 기다려도 추가 호출이 없음
+     */
     @Test
     void mockitoVerifyAfterTest() {
         // given
         DummyService dummyService = mock(DummyService.class);
+        VirtualScheduler scheduler = new VirtualScheduler();
 
         // when
         dummyService.dummyMethod();
 
         CompletableFuture.runAsync(() -> {
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-
             dummyService.dummyMethod();
             dummyService.dummyMethod();
-        });
+        }, scheduler.delayedExecutor(Duration.ofMillis(100)));
 
         // then
-        verify(dummyService, times(1)).dummyMethod();
-        verify(dummyService, after(150).times(3)).dummyMethod();
+        verify(dummyService, after(10).times(1)).dummyMethod();
+
+        scheduler.advanceBy(Duration.ofMillis(99));
+        verify(dummyService, after(10).times(1)).dummyMethod();   // 지연 시간이 지나기 전에는 호출되지 않음
+
+        scheduler.advanceBy(Duration.ofMillis(1));
+        verify(dummyService, after(10).times(3)).dummyMethod();
     }
 
     /**
@@ -237,4 +249,62 @@ public class MockVerifyExerciseTest {
         var expectedValues = List.of("question", "answer", "test");
         assertIterableEquals(expectedValues, captor.getAllValues());
     }
+
+    /**
+     *  BoundedArgumentCaptor
+     *  - 많은 호출을 캡처할 때 ArgumentCaptor 대신 사용. 최근 값만 ring buffer에 보관하고, 호출 횟수와 서로 다른 값의 개수는 집계만 함
+     *  - stubOnly() : 호출 기록을 남기지 않는 Mock. verify()는 사용할 수 없지만 호출이 많아도 heap이 커지지 않음
+     *  - stubbing의 Answer(capturing)에서 호출마다 한 번 캡처하며, 여러 스레드에서 동시에 호출해도 안전
+     */
+    @Test
+    void mockitoBoundedArgumentCaptorTest() throws InterruptedException {
+        // given
+        DummyService dummyService = mock(DummyService.class, withSettings().stubOnly());
+        BoundedArgumentCaptor<String> captor = BoundedArgumentCaptor.withCapacity(16);
+        when(dummyService.dummyMethodWithParam(anyString())).thenAnswer(captor.capturing(0, invocation -> "dummy"));
+
+        // when
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    dummyService.dummyMethodWithParam("param" + (i % 1_000));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        dummyService.dummyMethodWithParam("last");
+
+        // then
+        assertEquals(200_001, captor.getCount());
+        assertEquals(16, captor.getRecentValues().size());
+        assertEquals("last", captor.getLastValue());
+        assertEquals(1_001, captor.getDistinctCount(), 1_001 * 0.05);   // 추정치이므로 오차 허용
+    }
+
+    /**
+     *  BoundedArgumentCaptor.sampling(capacity, sampleRate)
+     *  - ring buffer에는 평균 sampleRate 번에 한 번만 보관하지만, 호출 횟수와 서로 다른 값의 개수는 모든 호출을 집계
+     */
+    @Test
+    void mockitoSamplingArgumentCaptorTest() {
+        // given
+        DummyService dummyService = mock(DummyService.class, withSettings().stubOnly());
+        BoundedArgumentCaptor<String> captor = BoundedArgumentCaptor.sampling(1 << 14, 10);
+        when(dummyService.dummyMethodWithParam(anyString())).thenAnswer(captor.capturing(0, invocation -> "dummy"));
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            dummyService.dummyMethodWithParam("param" + (i % 1_000));
+        }
+
+        // then
+        assertEquals(100_000, captor.getCount());
+        assertEquals(10_000, captor.getRetainedCount(), 1_000);   // 약 1/10 (표준편차 약 95)
+        assertEquals(captor.getRetainedCount(), captor.getRecentValues().size());
+        assertEquals(1_000, captor.getDistinctCount(), 1_000 * 0.05);
+    }
 }
@@ -0,0 +1,70 @@
+package org.example.testcodeexercise.fake;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.example.testcodeexercise.service.DummyServiceFake;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *  @GenerateFake 로 컴파일 시점에 생성한 DummyServiceFake
+ *  - Mockito의 mock() / when() / verify() 대신 생성된 메서드로 응답 지정과 호출 횟수 확인
+ */
+@GenerateFake(DummyService.class)
+class DummyServiceFakeTest {
+
+    @Test
+    void defaultAnswerTest() {
+        DummyServiceFake fake = new DummyServiceFake();
+
+        assertNull(fake.getDummy());
+        assertEquals(0, fake.dummyMethodWithParamAsIntInt(1000));
+        fake.dummyMethod();
+
+        assertEquals(1, fake.getDummyCalls());
+        assertEquals(1, fake.dummyMethodWithParamAsIntIntCalls());
+        assertEquals(1, fake.dummyMethodCalls());
+        assertEquals(3, fake.totalCalls());
+    }
+
+    @Test
+    void stubbingTest() throws Exception {
+        DummyServiceFake fake = new DummyServiceFake()
+                .onGetDummy(() -> "fake")
+                .onDummyMethodWithParamString(param -> "fake " + param)
+                .onDummyMethodWithParamAsIntInt(param -> param * 2)
+                .onDummyMethodWithParamStringAppendable((param, out) -> out.append("fake ").append(param));
+
+        assertEquals("fake", fake.getDummy());
+        assertEquals("fake test", fake.dummyMethodWithParam("test"));
+        assertEquals(2000, fake.dummyMethodWithParamAsInt(1000));
+        assertEquals("fake test", fake.dummyMethodWithParam("test", new StringWriter()).toString());
+
+        assertEquals(1, fake.dummyMethodWithParamStringCalls());
+        assertEquals(0, fake.dummyMethodWithParamStringStringBuilderCalls());   // 오버로드된 메서드는 따로 집계
+    }
+
+    @Test
+    void callRealMethodsTest() {
+        DummyServiceFake fake = new DummyServiceFake(line -> { })
+                .callRealMethods()
+                .onGetDummy(() -> "fake");
+
+        assertEquals("fake", fake.getDummy());
+        assertEquals("dummy test", fake.dummyMethodWithParam("test"));
+        assertEquals(1001, fake.dummyMethodWithParamAsInt(1000));
+    }
+
+    @Test
+    void resetFakeTest() {
+        DummyServiceFake fake = new DummyServiceFake().onGetDummy(() -> "fake");
+        fake.getDummy();
+
+        fake.resetFake();
+
+        assertNull(fake.getDummy());
+        assertEquals(1, fake.getDummyCalls());
+    }
+}
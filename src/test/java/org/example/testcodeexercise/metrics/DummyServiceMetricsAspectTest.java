@@ -0,0 +1,44 @@
+package org.example.testcodeexercise.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.testcodeexercise.service.DummyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DummyServiceMetricsAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DummyService dummyService = instrument(new DummyService());
+
+    private DummyService instrument(DummyService target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new DummyServiceMetricsAspect(registry));
+        return proxyFactory.getProxy();
+    }
+
+    @Test
+    void callCountAndLatencyTest() {
+        dummyService.dummyMethodWithParam("a");
+        dummyService.dummyMethodWithParam("b");
+        dummyService.getDummy();
+        dummyService.setParallelThreshold(10);
+
+        assertEquals(2, registry.get("dummy.service.calls").tag("method", "dummyMethodWithParam").counter().count());
+        assertEquals(2, registry.get("dummy.service.latency").tag("method", "dummyMethodWithParam").timer().count());
+        assertEquals(1, registry.get("dummy.service.calls").tag("method", "getDummy").counter().count());
+        assertNull(registry.find("dummy.service.calls").tag("method", "setParallelThreshold").counter());
+    }
+
+    @Test
+    void errorCountTest() {
+        assertThrows(NullPointerException.class, () -> dummyService.dummyMethodWithParamInt(null));
+
+        assertEquals(1, registry.get("dummy.service.errors")
+                .tag("method", "dummyMethodWithParamInt")
+                .tag("exception", "NullPointerException")
+                .counter().count());
+    }
+}
@@ -0,0 +1,378 @@
+package org.example.testcodeexercise.service;
+
+import org.opentest4j.AssertionFailedError;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ *  ConcurrentRecordingDummyService
+ *  - 여러 스레드에서 동시에 호출하는 부하 테스트용 DummyService 테스트 더블
+ *  - Mockito Mock은 호출 기록을 공유 목록에 동기화하여 저장하므로 호출 스레드가 많으면 병목이 됨
+ *  - 호출 기록은 스레드마다 따로 가진 버퍼에 lock 없이 추가하고, 검증할 때 모든 버퍼를 합쳐 호출 시각(System.nanoTime()) 순서로 정렬
+ *    호출 스레드끼리 공유하는 카운터가 없으므로 스레드가 많아도 같은 cache line을 두고 경합하지 않음
+ *  - 메서드별 호출 횟수는 LongAdder로 집계하므로 인자 조건이 없는 횟수 검증은 버퍼를 읽지 않음
+ *  - 호출 자체는 기록하지 않는 별도의 DummyService에 위임하여 실제 로직을 실행 (dummyMethod()의 출력은 버림)
+ *    테스트 더블에 직접 호출한 메서드만 기록되며, DummyService가 내부에서 호출하는 메서드
+ *    (배치 메서드의 원소별 호출, 병렬 처리 시 common pool 스레드의 호출 포함)는 기록되지 않음
+ *
+ *  검증
+ *  - verify(Call).times(n) / atLeast(n) / atMost(n) / never(), withArgument(value)로 인자 조건 지정
+ *  - inOrder().verify(Call).verify(Call, n).atLeast(Call, n) : 지정한 순서대로 호출되었는지 검증
+ *  - 같은 스레드의 호출은 항상 호출한 순서대로 정렬되고, 서로 다른 스레드의 호출은 호출 시각 기준
+ *    (시각이 같은 다른 스레드의 호출끼리는 순서를 보장하지 않음)
+ *  - 호출이 진행 중일 때 검증하면 진행 중인 호출은 포함되지 않을 수 있음
+ */
+public class ConcurrentRecordingDummyService extends DummyService {
+
+    /**
+     *  기록 대상 메서드 (오버로드된 버퍼 메서드는 하나로 묶음)
+     */
+    public enum Call {
+        GET_DUMMY,
+        GET_DUMMY_INT,
+        GET_DUMMY_AS_INT,
+        DUMMY_METHOD,
+        DUMMY_METHOD_WITH_PARAM,
+        DUMMY_METHOD_WITH_PARAM_INTO_BUFFER,
+        DUMMY_METHOD_WITH_PARAM_BATCH,
+        DUMMY_METHOD_WITH_PARAM_INT,
+        DUMMY_METHOD_WITH_PARAM_AS_INT,
+        DUMMY_METHOD_WITH_PARAM_AS_INT_BATCH
+    }
+
+    /**
+     *  @param nanoTime 호출 시각 (System.nanoTime())
+     *  @param argument 첫 번째 인자 (인자가 없으면 null)
+     */
+    public record Invocation(long nanoTime, Call call, Object argument) {
+    }
+
+    private static final Call[] CALLS = Call.values();
+
+    private final DummyService delegate = new DummyService(line -> { });
+    private final LongAdder[] counts = new LongAdder[CALLS.length];
+    private final Queue<Buffer> buffers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Buffer> buffer = ThreadLocal.withInitial(this::newBuffer);
+
+    public ConcurrentRecordingDummyService() {
+        super(line -> { });
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    private Buffer newBuffer() {
+        Buffer buffer = new Buffer();
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    private void record(Call call, Object argument) {
+        counts[call.ordinal()].increment();
+        buffer.get().add(System.nanoTime(), call, argument);
+    }
+
+    @Override
+    public void setParallelThreshold(int parallelThreshold) {
+        super.setParallelThreshold(parallelThreshold);
+        delegate.setParallelThreshold(parallelThreshold);
+    }
+
+    @Override
+    public String getDummy() {
+        record(Call.GET_DUMMY, null);
+        return delegate.getDummy();
+    }
+
+    @Override
+    public Integer getDummyInt() {
+        record(Call.GET_DUMMY_INT, null);
+        return delegate.getDummyInt();
+    }
+
+    @Override
+    public int getDummyAsInt() {
+        record(Call.GET_DUMMY_AS_INT, null);
+        return delegate.getDummyAsInt();
+    }
+
+    @Override
+    public void dummyMethod() {
+        record(Call.DUMMY_METHOD, null);
+        delegate.dummyMethod();
+    }
+
+    @Override
+    public String dummyMethodWithParam(String param) {
+        record(Call.DUMMY_METHOD_WITH_PARAM, param);
+        return delegate.dummyMethodWithParam(param);
+    }
+
+    @Override
+    public StringBuilder dummyMethodWithParam(String param, StringBuilder out) {
+        record(Call.DUMMY_METHOD_WITH_PARAM_INTO_BUFFER, param);
+        return delegate.dummyMethodWithParam(param, out);
+    }
+
+    @Override
+    public <A extends Appendable> A dummyMethodWithParam(String param, A out) throws IOException {
+        record(Call.DUMMY_METHOD_WITH_PARAM_INTO_BUFFER, param);
+        return delegate.dummyMethodWithParam(param, out);
+    }
+
+    @Override
+    public CharBuffer dummyMethodWithParam(String param, CharBuffer out) {
+        record(Call.DUMMY_METHOD_WITH_PARAM_INTO_BUFFER, param);
+        return delegate.dummyMethodWithParam(param, out);
+    }
+
+    @Override
+    public ByteBuffer dummyMethodWithParam(String param, ByteBuffer out) {
+        record(Call.DUMMY_METHOD_WITH_PARAM_INTO_BUFFER, param);
+        return delegate.dummyMethodWithParam(param, out);
+    }
+
+    @Override
+    public String[] dummyMethodWithParamBatch(String[] params) {
+        record(Call.DUMMY_METHOD_WITH_PARAM_BATCH, params);
+        return delegate.dummyMethodWithParamBatch(params);
+    }
+
+    @Override
+    public List<String> dummyMethodWithParamBatch(List<String> params) {
+        record(Call.DUMMY_METHOD_WITH_PARAM_BATCH, params);
+        return delegate.dummyMethodWithParamBatch(params);
+    }
+
+    @Override
+    public Integer dummyMethodWithParamInt(Integer param) {
+        record(Call.DUMMY_METHOD_WITH_PARAM_INT, param);
+        return delegate.dummyMethodWithParamInt(param);
+    }
+
+    @Override
+    public int dummyMethodWithParamAsInt(int param) {
+        record(Call.DUMMY_METHOD_WITH_PARAM_AS_INT, param);
+        return delegate.dummyMethodWithParamAsInt(param);
+    }
+
+    @Override
+    public int[] dummyMethodWithParamAsInt(int[] params) {
+        record(Call.DUMMY_METHOD_WITH_PARAM_AS_INT_BATCH, params);
+        return delegate.dummyMethodWithParamAsInt(params);
+    }
+
+    @Override
+    public IntStream dummyMethodWithParamAsInt(IntStream params) {
+        record(Call.DUMMY_METHOD_WITH_PARAM_AS_INT_BATCH, params);
+        return delegate.dummyMethodWithParamAsInt(params);
+    }
+
+    public long count(Call call) {
+        return counts[call.ordinal()].sum();
+    }
+
+    /**
+     *  모든 스레드의 호출 기록을 합쳐 호출 순서대로 반환
+     */
+    public List<Invocation> invocations() {
+        List<Invocation> invocations = new ArrayList<>();
+        for (Buffer buffer : buffers) {
+            buffer.drainTo(invocations);
+        }
+        // 안정 정렬이므로 시각이 같은 같은 스레드의 호출은 버퍼에 기록된 순서를 유지
+        invocations.sort(Comparator.comparingLong(Invocation::nanoTime));
+        return invocations;
+    }
+
+    public Verification verify(Call call) {
+        return new Verification(call, null, false);
+    }
+
+    public InOrderVerification inOrder() {
+        return new InOrderVerification(invocations());
+    }
+
+    /**
+     *  호출 횟수 검증
+     */
+    public final class Verification {
+
+        private final Call call;
+        private final Object argument;
+        private final boolean matchArgument;
+
+        private Verification(Call call, Object argument, boolean matchArgument) {
+            this.call = call;
+            this.argument = argument;
+            this.matchArgument = matchArgument;
+        }
+
+        /**
+         *  첫 번째 인자가 argument와 같은 (equals) 호출만 검증
+         */
+        public Verification withArgument(Object argument) {
+            return new Verification(call, argument, true);
+        }
+
+        public void times(long expected) {
+            long actual = actual();
+            if (actual != expected) {
+                fail("exactly " + expected, expected, actual);
+            }
+        }
+
+        public void atLeast(long expected) {
+            long actual = actual();
+            if (actual < expected) {
+                fail("at least " + expected, expected, actual);
+            }
+        }
+
+        public void atMost(long expected) {
+            long actual = actual();
+            if (actual > expected) {
+                fail("at most " + expected, expected, actual);
+            }
+        }
+
+        public void never() {
+            times(0);
+        }
+
+        private long actual() {
+            if (!matchArgument) {
+                return count(call);
+            }
+            return invocations().stream()
+                    .filter(invocation -> invocation.call() == call && Objects.equals(invocation.argument(), argument))
+                    .count();
+        }
+
+        private void fail(String expectation, long expected, long actual) {
+            String target = matchArgument ? call + "(" + argument + ")" : call.toString();
+            throw new AssertionFailedError(String.format("%s : wanted %s invocations but was %d", target, expectation, actual),
+                    expected, actual);
+        }
+    }
+
+    /**
+     *  호출 순서 검증 (Mockito InOrder의 times, atLeast와 같은 규칙)
+     *  - verify(call, n) : 앞서 검증한 호출 이후 처음 나오는 연속된 call 호출이 정확히 n번이면 그 뒤로 이동
+     *    그렇지 않으면 앞서 검증한 호출 이후의 call 호출 전체가 정확히 n번이어야 하고, 마지막 호출 뒤로 이동
+     *  - atLeast(call, n) : 앞서 검증한 호출 이후 call이 n번 이상 호출되었는지 검증하고, 마지막 호출 뒤로 이동
+     *  - 사이에 다른 호출이 있어도 무시
+     */
+    public static final class InOrderVerification {
+
+        private final List<Invocation> invocations;
+        private int position;
+
+        private InOrderVerification(List<Invocation> invocations) {
+            this.invocations = invocations;
+        }
+
+        public InOrderVerification verify(Call call) {
+            return verify(call, 1);
+        }
+
+        public InOrderVerification verify(Call call, int times) {
+            int chunkStart = position;
+            while (chunkStart < invocations.size() && invocations.get(chunkStart).call() != call) {
+                chunkStart++;
+            }
+            int chunkEnd = chunkStart;
+            while (chunkEnd < invocations.size() && invocations.get(chunkEnd).call() == call) {
+                chunkEnd++;
+            }
+            if (chunkEnd - chunkStart == times) {
+                if (times > 0) {
+                    position = chunkEnd;
+                }
+                return this;
+            }
+            return verifyRemaining(call, times, "exactly " + times, found -> found == times);
+        }
+
+        public InOrderVerification atLeast(Call call, int times) {
+            return verifyRemaining(call, times, "at least " + times, found -> found >= times);
+        }
+
+        private InOrderVerification verifyRemaining(Call call, int times, String expectation, IntPredicate expected) {
+            int found = 0;
+            int end = position;
+            for (int index = position; index < invocations.size(); index++) {
+                if (invocations.get(index).call() == call) {
+                    found++;
+                    end = index + 1;
+                }
+            }
+            if (!expected.test(found)) {
+                throw new AssertionFailedError(String.format("%s : wanted %s invocations in order after invocation #%d but was %d",
+                        call, expectation, position, found), times, found);
+            }
+            position = end;
+            return this;
+        }
+    }
+
+    /**
+     *  한 스레드만 기록하는 호출 버퍼
+     *  - 고정 크기 chunk를 연결하여 늘려가며, 기존 chunk는 복사하지 않음
+     *  - 기록한 뒤 chunk의 size를 release 쓰기로 공개하므로, 다른 스레드는 size까지의 기록을 안전하게 읽을 수 있음
+     */
+    private static final class Buffer {
+
+        private final Chunk head = new Chunk();
+        private Chunk tail = head;
+
+        void add(long nanoTime, Call call, Object argument) {
+            Chunk chunk = tail;
+            int index = chunk.size;
+            if (index == Chunk.CAPACITY) {
+                Chunk next = new Chunk();
+                chunk.next = next;
+                tail = next;
+                chunk = next;
+                index = 0;
+            }
+            chunk.nanoTimes[index] = nanoTime;
+            chunk.calls[index] = call;
+            chunk.arguments[index] = argument;
+            Chunk.SIZE.lazySet(chunk, index + 1);
+        }
+
+        void drainTo(List<Invocation> invocations) {
+            for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+                int size = chunk.size;
+                for (int i = 0; i < size; i++) {
+                    invocations.add(new Invocation(chunk.nanoTimes[i], chunk.calls[i], chunk.arguments[i]));
+                }
+            }
+        }
+    }
+
+    private static final class Chunk {
+
+        static final int CAPACITY = 1024;
+        static final AtomicIntegerFieldUpdater<Chunk> SIZE = AtomicIntegerFieldUpdater.newUpdater(Chunk.class, "size");
+
+        final long[] nanoTimes = new long[CAPACITY];
+        final Call[] calls = new Call[CAPACITY];
+        final Object[] arguments = new Object[CAPACITY];
+        volatile int size;
+        volatile Chunk next;
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.testcodeexercise.service;
+
+import org.example.testcodeexercise.service.ConcurrentRecordingDummyService.Call;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentRecordingDummyServiceTest {
+
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 10_000;
+
+    @Test
+    void concurrentRecordingTest() throws InterruptedException {
+        ConcurrentRecordingDummyService dummyService = new ConcurrentRecordingDummyService();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            String param = "thread" + t;
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                    dummyService.dummyMethodWithParam(param);
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        dummyService.verify(Call.DUMMY_METHOD_WITH_PARAM).times((long) THREADS * CALLS_PER_THREAD);
+        dummyService.verify(Call.DUMMY_METHOD_WITH_PARAM).withArgument("thread3").times(CALLS_PER_THREAD);
+        dummyService.verify(Call.DUMMY_METHOD).never();
+        assertEquals((long) THREADS * CALLS_PER_THREAD, dummyService.invocations().size());
+
+        // 모든 스레드의 호출이 호출 시각 순서로 합쳐짐
+        var invocations = dummyService.invocations();
+        for (int i = 1; i < invocations.size(); i++) {
+            assertTrue(invocations.get(i - 1).nanoTime() <= invocations.get(i).nanoTime());
+        }
+    }
+
+    @Test
+    void batchRecordingTest() {
+        ConcurrentRecordingDummyService dummyService = new ConcurrentRecordingDummyService();
+        dummyService.setParallelThreshold(2);   // common pool에서 병렬로 처리되는 경로
+
+        String[] params = IntStream.range(0, 100).mapToObj(String::valueOf).toArray(String[]::new);
+        assertEquals("dummy 99", dummyService.dummyMethodWithParamBatch(params)[99]);
+        assertEquals(100, dummyService.dummyMethodWithParamAsInt(new int[100]).length);
+
+        // 테스트 더블에 직접 호출한 배치 메서드만 기록되고, 원소별 내부 호출은 어느 스레드에서 실행되어도 기록되지 않음
+        dummyService.verify(Call.DUMMY_METHOD_WITH_PARAM_BATCH).times(1);
+        dummyService.verify(Call.DUMMY_METHOD_WITH_PARAM_AS_INT_BATCH).times(1);
+        dummyService.verify(Call.DUMMY_METHOD_WITH_PARAM).never();
+        dummyService.verify(Call.DUMMY_METHOD_WITH_PARAM_AS_INT).never();
+        assertEquals(2, dummyService.invocations().size());
+    }
+
+    @Test
+    void verifyTest() {
+        ConcurrentRecordingDummyService dummyService = new ConcurrentRecordingDummyService();
+
+        dummyService.dummyMethod();
+        assertEquals(1001, dummyService.dummyMethodWithParamInt(1000));   // 내부의 dummyMethodWithParamAsInt 호출은 기록하지 않음
+        dummyService.dummyMethodWithParam("test");
+        dummyService.dummyMethod();
+
+        dummyService.verify(Call.DUMMY_METHOD).times(2);
+        dummyService.verify(Call.DUMMY_METHOD).atLeast(1);
+        dummyService.verify(Call.DUMMY_METHOD).atMost(2);
+        dummyService.verify(Call.DUMMY_METHOD_WITH_PARAM_INT).withArgument(1000).times(1);
+        dummyService.verify(Call.DUMMY_METHOD_WITH_PARAM_AS_INT).never();
+
+        AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> dummyService.verify(Call.DUMMY_METHOD).times(3));
+        assertEquals("DUMMY_METHOD : wanted exactly 3 invocations but was 2", error.getMessage());
+    }
+
+    @Test
+    void inOrderTest() {
+        ConcurrentRecordingDummyService dummyService = new ConcurrentRecordingDummyService();
+
+        dummyService.dummyMethod();
+        dummyService.dummyMethodWithParam("test");
+        dummyService.dummyMethod();
+        dummyService.getDummy();
+
+        dummyService.inOrder()
+                .verify(Call.DUMMY_METHOD)
+                .verify(Call.DUMMY_METHOD_WITH_PARAM)
+                .verify(Call.GET_DUMMY);
+        dummyService.inOrder()
+                .verify(Call.DUMMY_METHOD, 2)
+                .verify(Call.GET_DUMMY);
+
+        assertThrows(AssertionFailedError.class, () -> dummyService.inOrder()
+                .verify(Call.GET_DUMMY)
+                .verify(Call.DUMMY_METHOD_WITH_PARAM));
+    }
+
+    @Test
+    void inOrderSurplusTest() {
+        ConcurrentRecordingDummyService dummyService = new ConcurrentRecordingDummyService();
+
+        for (int i = 0; i < 7; i++) {
+            dummyService.dummyMethod();
+        }
+        dummyService.getDummy();
+
+        AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> dummyService.inOrder()
+                .verify(Call.DUMMY_METHOD, 2));
+        assertEquals("DUMMY_METHOD : wanted exactly 2 invocations in order after invocation #0 but was 7", error.getMessage());
+        dummyService.inOrder()
+                .verify(Call.DUMMY_METHOD, 7)
+                .verify(Call.GET_DUMMY);
+        dummyService.inOrder()
+                .atLeast(Call.DUMMY_METHOD, 2)
+                .verify(Call.GET_DUMMY);
+        assertThrows(AssertionFailedError.class, () -> dummyService.inOrder()
+                .atLeast(Call.DUMMY_METHOD, 8));
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.testcodeexercise.service;
+
+import org.example.testcodeexercise.support.LatencyAssertions;
+import org.example.testcodeexercise.support.LatencyAssertions.Settings;
+import org.example.testcodeexercise.support.LatencyAssertions.Thresholds;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+/**
+ *  DummyService 메서드의 지연 시간 SLO
+ *  - 다른 테스트와 CPU를 나눠 쓰지 않도록 @Isolated로 단독 실행
+ *  - max는 GC, safepoint 등의 영향을 받으므로 백분위 값보다 넉넉하게 지정
+ *  - 절대 시간 기준이라 실행 환경에 따라 실패할 수 있으므로 기본 테스트에서는 제외 (./gradlew test -PlatencyTest 로 실행)
+ */
+@Tag("latency")
+@Isolated
+class DummyServiceLatencyTest {
+
+    private static final Settings CONCURRENT = new Settings(10_000, 10_000, 4);
+
+    private final DummyService dummyService = new DummyService();
+
+    @Test
+    void dummyMethodWithParamLatencyTest() {
+        LatencyAssertions.assertLatency(CONCURRENT,
+                new Thresholds(Duration.ofNanos(20_000), Duration.ofNanos(200_000), Duration.ofMillis(200)),
+                () -> dummyService.dummyMethodWithParam("test"));
+    }
+
+    @Test
+    void dummyMethodWithParamAsIntLatencyTest() {
+        LatencyAssertions.assertLatency(CONCURRENT,
+                new Thresholds(Duration.ofNanos(10_000), Duration.ofNanos(100_000), Duration.ofMillis(200)),
+                () -> dummyService.dummyMethodWithParamAsInt(1000));
+    }
+
+    @Test
+    void byteBufferLatencyTest() {
+        // ByteBuffer는 스레드 간에 공유할 수 없으므로 현재 스레드에서만 측정
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        LatencyAssertions.assertLatency(
+                new Thresholds(Duration.ofNanos(20_000), Duration.ofNanos(200_000), Duration.ofMillis(200)),
+                () -> dummyService.dummyMethodWithParam("테스트", buffer).clear());
+    }
+}
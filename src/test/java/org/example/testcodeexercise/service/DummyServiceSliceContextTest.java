@@ -0,0 +1,37 @@
+package org.example.testcodeexercise.service;
+
+import org.example.testcodeexercise.metrics.DummyServiceMetricsAspect;
+import org.example.testcodeexercise.sink.AsyncLineSink;
+import org.example.testcodeexercise.support.spring.DummyServiceSliceTest;
+import org.example.testcodeexercise.web.DummyServletController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DummyServiceSliceTest
+class DummyServiceSliceContextTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Test
+    void sliceContextTest() {
+        assertThat(context.getBeansOfType(AsyncLineSink.class)).hasSize(1);
+        assertThat(context.getBeanNamesForType(DummyServletController.class)).isEmpty();
+        assertThat(context.getBeanNamesForType(DummyServiceMetricsAspect.class)).isEmpty();
+    }
+
+    @Test
+    void dummyServiceTest() {
+        assertThat(dummyService.getDummy()).isEqualTo("dummy");
+        assertThat(dummyService.dummyMethodWithParam("slice")).isEqualTo("dummy slice");
+        assertThat(dummyService.dummyMethodWithParamBatch(List.of("a", "b"))).containsExactly("dummy a", "dummy b");
+    }
+}
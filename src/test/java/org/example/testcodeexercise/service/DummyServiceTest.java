@@ -0,0 +1,100 @@
+package org.example.testcodeexercise.service;
+
+import org.example.testcodeexercise.support.AllocationAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DummyServiceTest {
+
+    private final DummyService dummyService = new DummyService();
+
+    @Test
+    void primitiveIntApiTest() {
+        assertEquals(dummyService.getDummyInt(), dummyService.getDummyAsInt());
+        assertEquals(1001, dummyService.dummyMethodWithParamAsInt(1000));
+        assertEquals(1001, dummyService.dummyMethodWithParamInt(1000));
+        assertArrayEquals(new int[]{2, 3, 4}, dummyService.dummyMethodWithParamAsInt(new int[]{1, 2, 3}));
+        assertArrayEquals(new int[]{2, 3, 4}, dummyService.dummyMethodWithParamAsInt(IntStream.of(1, 2, 3)).toArray());
+    }
+
+    @Test
+    void boxedIntApiNullTest() {
+        assertThrows(NullPointerException.class, () -> dummyService.dummyMethodWithParamInt(null));
+    }
+
+    @Test
+    void bufferApiTest() throws IOException {
+        String param = "테스트 \uD83D\uDE00 \uD800 test";
+        String expected = dummyService.dummyMethodWithParam(param);
+
+        assertEquals(expected, dummyService.dummyMethodWithParam(param, new StringBuilder()).toString());
+        assertEquals(expected, dummyService.dummyMethodWithParam(param, new StringWriter()).toString());
+        assertEquals(expected, dummyService.dummyMethodWithParam(param, CharBuffer.allocate(64)).flip().toString());
+
+        ByteBuffer byteBuffer = dummyService.dummyMethodWithParam(param, ByteBuffer.allocate(64)).flip();
+        byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), bytes);
+    }
+
+    @Test
+    void bufferApiOverflowTest() {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(8);
+
+        assertThrows(BufferOverflowException.class, () -> dummyService.dummyMethodWithParam("test", byteBuffer));
+        assertEquals(0, byteBuffer.position());
+    }
+
+    @Test
+    void batchApiTest() {
+        String[] params = {"a", "b", null, "c"};
+        String[] expected = {"dummy a", "dummy b", "dummy null", "dummy c"};
+
+        assertArrayEquals(expected, dummyService.dummyMethodWithParamBatch(params));
+        assertIterableEquals(List.of(expected), dummyService.dummyMethodWithParamBatch(Arrays.asList(params)));
+        assertIterableEquals(List.of(expected), dummyService.dummyMethodWithParamBatch(new LinkedList<>(Arrays.asList(params))));
+    }
+
+    @Test
+    void parallelBatchApiTest() {
+        DummyService parallelService = new DummyService();
+        parallelService.setParallelThreshold(2);
+        int[] params = IntStream.range(0, 10_000).toArray();
+        String[] stringParams = IntStream.range(0, 10_000).mapToObj(String::valueOf).toArray(String[]::new);
+
+        assertArrayEquals(dummyService.dummyMethodWithParamAsInt(params), parallelService.dummyMethodWithParamAsInt(params));
+        assertArrayEquals(dummyService.dummyMethodWithParamBatch(stringParams), parallelService.dummyMethodWithParamBatch(stringParams));
+        assertIterableEquals(dummyService.dummyMethodWithParamBatch(List.of(stringParams)), parallelService.dummyMethodWithParamBatch(List.of(stringParams)));
+    }
+
+    /**
+     *  primitive / 버퍼 API는 할당 없이 동작해야 함
+     */
+    @Test
+    void hotPathAllocationTest() {
+        StringBuilder builder = new StringBuilder(64);
+        CharBuffer charBuffer = CharBuffer.allocate(64);
+        ByteBuffer byteBuffer = ByteBuffer.allocate(64);
+
+        AllocationAssertions.assertDoesNotAllocate(dummyService::getDummyAsInt);
+        AllocationAssertions.assertDoesNotAllocate(() -> dummyService.dummyMethodWithParamAsInt(1000));
+        AllocationAssertions.assertDoesNotAllocate(() -> dummyService.dummyMethodWithParam("test", builder).setLength(0));
+        AllocationAssertions.assertDoesNotAllocate(() -> dummyService.dummyMethodWithParam("테스트", charBuffer).clear());
+        AllocationAssertions.assertDoesNotAllocate(() -> dummyService.dummyMethodWithParam("테스트", byteBuffer).clear());
+
+        // 결과 String과 내부 byte[] 하나씩만 할당 (compressed oops 여부와 관계없이 128 bytes 이내)
+        AllocationAssertions.assertAllocatesAtMost(128, () -> dummyService.dummyMethodWithParam("test"));
+    }
+}
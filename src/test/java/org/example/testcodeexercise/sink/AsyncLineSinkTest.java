@@ -0,0 +1,133 @@
+package org.example.testcodeexercise.sink;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncLineSinkTest {
+
+    @Test
+    void writeAllLinesInOrderTest() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream target = new PrintStream(output, false, StandardCharsets.UTF_8);
+
+        try (AsyncLineSink sink = new AsyncLineSink(target, 16, OverflowPolicy.BLOCK, 1, 4)) {
+            IntStream.range(0, 1_000).forEach(i -> sink.write("line " + i));
+        }
+
+        List<String> expected = IntStream.range(0, 1_000).mapToObj(i -> "line " + i).toList();
+        assertIterableEquals(expected, output.toString(StandardCharsets.UTF_8).lines().toList());
+    }
+
+    @Test
+    void blockPolicyConcurrentWriteTest() throws InterruptedException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream target = new PrintStream(output, false, StandardCharsets.UTF_8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try (AsyncLineSink sink = new AsyncLineSink(target, 8, OverflowPolicy.BLOCK, 1, 4)) {
+            for (int thread = 0; thread < 4; thread++) {
+                executor.execute(() -> IntStream.range(0, 2_500).forEach(i -> sink.write("line")));
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(0, sink.getDroppedLines());
+        }
+
+        assertEquals(10_000, output.toString(StandardCharsets.UTF_8).lines().count());
+    }
+
+    @Test
+    void writeWhileClosingTest() throws InterruptedException {
+        for (int round = 0; round < 50; round++) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            PrintStream target = new PrintStream(output, false, StandardCharsets.UTF_8);
+            AsyncLineSink sink = new AsyncLineSink(target, 64, OverflowPolicy.BLOCK, 1, 8);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            CountDownLatch started = new CountDownLatch(4);
+
+            for (int thread = 0; thread < 4; thread++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    IntStream.range(0, 500).forEach(i -> sink.write("line"));
+                });
+            }
+            started.await();
+            sink.close();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+            // close()와 경합한 write()도 버려지지 않고 모두 출력
+            assertEquals(2_000, output.toString(StandardCharsets.UTF_8).lines().count());
+        }
+    }
+
+    @Test
+    void closeWhileInterruptedTest() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));   // 느린 target
+            }
+        };
+        PrintStream target = new PrintStream(output, false, StandardCharsets.UTF_8);
+        AsyncLineSink sink = new AsyncLineSink(target, 64, OverflowPolicy.BLOCK, 1, 1);
+        IntStream.range(0, 50).forEach(i -> sink.write("line"));
+
+        // interrupt된 스레드에서 close()해도 writer가 출력하지 못한 줄을 버리지 않고 interrupt 상태는 유지
+        Thread.currentThread().interrupt();
+        sink.close();
+        assertTrue(Thread.interrupted());
+
+        assertEquals(50, output.toString(StandardCharsets.UTF_8).lines().count());
+        assertEquals(0, sink.getDroppedLines());
+    }
+
+    @Test
+    void dropPolicyTest() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = new ArrayList<>();
+        PrintStream blockingTarget = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void flush() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }) {
+            @Override
+            public void print(Object obj) {
+                synchronized (written) {
+                    written.addAll(String.valueOf(obj).lines().toList());
+                }
+            }
+        };
+
+        AsyncLineSink sink = new AsyncLineSink(blockingTarget, 4, OverflowPolicy.DROP, 1, 1);
+        IntStream.range(0, 100).forEach(i -> sink.write("line " + i));
+        release.countDown();
+        sink.close();
+
+        assertTrue(sink.getDroppedLines() > 0);
+        assertEquals(100, written.size() + sink.getDroppedLines());
+    }
+}
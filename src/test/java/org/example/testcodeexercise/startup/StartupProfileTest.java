@@ -0,0 +1,33 @@
+package org.example.testcodeexercise.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupProfileTest {
+
+    @Test
+    void thresholdAndCollapsedStackTest() throws InterruptedException {
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+
+        StartupStep refresh = applicationStartup.start("spring.context.refresh");
+        StartupStep slowBean = applicationStartup.start("spring.beans.instantiate").tag("beanName", "slowBean");
+        Thread.sleep(30);
+        slowBean.end();
+        applicationStartup.start("spring.beans.instantiate").tag("beanName", "fastBean").end();
+        refresh.end();
+
+        StartupProfile profile = StartupProfile.of(applicationStartup.getBufferedTimeline(), Duration.ofMillis(20));
+
+        assertEquals(2, profile.steps().size());
+        assertEquals("spring.context.refresh", profile.steps().get(0).name());
+        assertEquals("slowBean", profile.steps().get(1).tags().get("beanName"));
+        assertTrue(profile.collapsedStacks().stream()
+                .anyMatch(line -> line.startsWith("spring.context.refresh;spring.beans.instantiate[slowBean] ")));
+        assertTrue(profile.collapsedStacks().stream().noneMatch(line -> line.contains("fastBean")));
+    }
+}
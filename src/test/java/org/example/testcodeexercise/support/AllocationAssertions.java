@@ -0,0 +1,106 @@
+package org.example.testcodeexercise.support;
+
+import org.junit.jupiter.api.function.Executable;
+import org.opentest4j.AssertionFailedError;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ *  AllocationAssertions
+ *  - 실행 코드가 호출당 할당하는 바이트 수를 검증 (com.sun.management.ThreadMXBean의 스레드별 할당 카운터 사용)
+ *  - JIT 컴파일(escape analysis 등)이 적용되도록 warmupIterations 만큼 먼저 실행한 뒤,
+ *    iterations 회 실행을 repetitions 번 반복 측정하여 가장 적게 할당한 측정값을 사용 (GC, JIT 등으로 인한 일시적인 할당 제외)
+ *  - 현재 스레드에서 할당한 바이트만 측정하므로, 다른 스레드에 작업을 맡기는 코드는 측정할 수 없음
+ *  - 스레드별 할당 카운터를 지원하지 않는 JVM에서는 테스트를 건너뜀 (assumption 실패)
+ */
+public final class AllocationAssertions {
+
+    private AllocationAssertions() {
+    }
+
+    /**
+     *  @param warmupIterations 측정 전 실행 횟수
+     *  @param iterations 한 번 측정할 때의 실행 횟수
+     *  @param repetitions 측정 반복 횟수 (최솟값 사용)
+     */
+    public record Settings(int warmupIterations, int iterations, int repetitions) {
+
+        public static final Settings DEFAULT = new Settings(20_000, 1_000, 5);
+
+        public Settings {
+            if (warmupIterations < 0 || iterations < 1 || repetitions < 1) {
+                throw new IllegalArgumentException("invalid settings: " + warmupIterations + ", " + iterations + ", " + repetitions);
+            }
+        }
+    }
+
+    public static void assertDoesNotAllocate(Executable executable) {
+        assertAllocatesAtMost(0, Settings.DEFAULT, executable, null);
+    }
+
+    public static void assertAllocatesAtMost(long maxBytes, Executable executable) {
+        assertAllocatesAtMost(maxBytes, Settings.DEFAULT, executable, null);
+    }
+
+    public static void assertAllocatesAtMost(long maxBytes, Executable executable, String message) {
+        assertAllocatesAtMost(maxBytes, Settings.DEFAULT, executable, message);
+    }
+
+    public static void assertAllocatesAtMost(long maxBytes, Settings settings, Executable executable) {
+        assertAllocatesAtMost(maxBytes, settings, executable, null);
+    }
+
+    /**
+     *  호출당 평균 할당 바이트가 maxBytes 이하인지 검증
+     *  - 한 번의 측정에서 할당한 전체 바이트가 maxBytes * iterations 이하이면 통과
+     */
+    public static void assertAllocatesAtMost(long maxBytes, Settings settings, Executable executable, String message) {
+        long allocated = measure(settings, executable);
+        if (allocated > maxBytes * settings.iterations()) {
+            double perInvocation = (double) allocated / settings.iterations();
+            String prefix = message != null ? message + " ==> " : "";
+            throw new AssertionFailedError(String.format("%sexpected at most %d bytes per invocation but allocated %.1f bytes "
+                            + "(minimum of %d repetitions x %d iterations after %d warm-up iterations)",
+                    prefix, maxBytes, perInvocation, settings.repetitions(), settings.iterations(), settings.warmupIterations()),
+                    maxBytes, perInvocation);
+        }
+    }
+
+    /**
+     *  호출당 평균 할당 바이트 (repetitions 번 측정한 값 중 최솟값)
+     */
+    public static double measureAllocatedBytes(Executable executable) {
+        return measureAllocatedBytes(Settings.DEFAULT, executable);
+    }
+
+    public static double measureAllocatedBytes(Settings settings, Executable executable) {
+        return (double) measure(settings, executable) / settings.iterations();
+    }
+
+    /**
+     *  iterations 회 실행하는 동안 할당한 전체 바이트의 최솟값
+     */
+    private static long measure(Settings settings, Executable executable) {
+        assumeTrue(ThreadAllocationCounter.isSupported(), "thread allocation counter is not supported by this JVM");
+
+        run(executable, settings.warmupIterations());
+        long minimum = Long.MAX_VALUE;
+        for (int repetition = 0; repetition < settings.repetitions(); repetition++) {
+            long before = ThreadAllocationCounter.currentThreadAllocatedBytes();
+            run(executable, settings.iterations());
+            long allocated = ThreadAllocationCounter.currentThreadAllocatedBytes() - before;
+            minimum = Math.min(minimum, allocated);
+        }
+        return minimum;
+    }
+
+    private static void run(Executable executable, int iterations) {
+        try {
+            for (int i = 0; i < iterations; i++) {
+                executable.execute();
+            }
+        } catch (Throwable throwable) {
+            throw new AssertionFailedError("Unexpected exception thrown: " + throwable.getClass().getName(), throwable);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.testcodeexercise.support;
+
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ *  BoundedArgumentCaptor
+ *  - ArgumentCaptor.getAllValues()는 캡처한 인자를 모두 보관하므로, 수백만 번 호출하는 테스트에서는 heap이 계속 커짐
+ *  - 최근 capacity 개의 인자만 ring buffer에 보관하고, 호출 횟수(LongAdder)와 서로 다른 값의 개수(HyperLogLog)는 값을 보관하지 않고 집계
+ *  - sampleRate > 1 이면 ring buffer에는 평균 sampleRate 번에 한 번만 보관 (호출 횟수와 서로 다른 값의 개수는 모든 호출을 집계)
+ *  - 여러 스레드에서 동시에 캡처해도 안전
+ *
+ *  Mock의 호출 기록도 heap을 차지하므로, 호출 기록을 남기지 않는 stubOnly Mock의 stubbing Answer로 캡처
+ *  <pre>
+ *  DummyService mock = mock(DummyService.class, withSettings().stubOnly());
+ *  when(mock.dummyMethodWithParam(anyString())).thenAnswer(captor.capturing(0, invocation -> "dummy"));
+ *  </pre>
+ *  - Answer는 실제 호출마다 한 번만 실행되므로, 여러 stubbing을 비교하거나 verify()가 기록된 호출과 비교할 때 중복 캡처되지 않음
+ *    (ArgumentMatcher로 캡처하면 Mockito가 matcher를 평가할 때마다 캡처되므로 ArgumentMatcher는 제공하지 않음)
+ *  - Fake 등에서는 accept()로 직접 캡처
+ */
+public final class BoundedArgumentCaptor<T> implements Consumer<T> {
+
+    private static final int DISTINCT_PRECISION = 12;
+
+    private final AtomicReferenceArray<T> values;
+    private final int mask;
+    private final int sampleRate;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder count = new LongAdder();
+    private final HyperLogLog distinct = new HyperLogLog(DISTINCT_PRECISION);
+
+    private BoundedArgumentCaptor(int capacity, int sampleRate) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate must be positive: " + sampleRate);
+        }
+        this.values = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     *  @param capacity ring buffer 크기 (2의 거듭제곱)
+     */
+    public static <T> BoundedArgumentCaptor<T> withCapacity(int capacity) {
+        return new BoundedArgumentCaptor<>(capacity, 1);
+    }
+
+    /**
+     *  @param capacity ring buffer 크기 (2의 거듭제곱)
+     *  @param sampleRate ring buffer에 보관할 비율 (1/sampleRate)
+     */
+    public static <T> BoundedArgumentCaptor<T> sampling(int capacity, int sampleRate) {
+        return new BoundedArgumentCaptor<>(capacity, sampleRate);
+    }
+
+    /**
+     *  호출된 메서드의 argumentIndex 번째 인자를 캡처한 뒤 answer의 결과를 반환하는 Answer
+     */
+    public <R> Answer<R> capturing(int argumentIndex, Answer<R> answer) {
+        return invocation -> {
+            accept(invocation.getArgument(argumentIndex));
+            return answer.answer(invocation);
+        };
+    }
+
+    @Override
+    public void accept(T value) {
+        count.increment();
+        distinct.add(value);
+        if (sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0) {
+            long index = sequence.getAndIncrement();
+            values.set((int) (index & mask), value);
+        }
+    }
+
+    /**
+     *  캡처한 전체 횟수
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     *  캡처한 값 중 서로 다른 값의 개수 추정치 (표준 오차 약 1.6%)
+     */
+    public long getDistinctCount() {
+        return distinct.estimate();
+    }
+
+    /**
+     *  ring buffer에 보관한 값의 개수 (최대 capacity)
+     */
+    public int getRetainedCount() {
+        return (int) Math.min(sequence.get(), values.length());
+    }
+
+    /**
+     *  ring buffer에 보관한 최근 값 (오래된 순서)
+     *  - 캡처가 진행 중일 때 호출하면 읽는 도중 덮어쓴 값이 섞일 수 있으므로, 호출이 끝난 뒤 확인
+     */
+    public List<T> getRecentValues() {
+        long end = sequence.get();
+        long start = Math.max(0, end - values.length());
+        List<T> recent = new ArrayList<>((int) (end - start));
+        for (long index = start; index < end; index++) {
+            recent.add(values.get((int) (index & mask)));
+        }
+        return recent;
+    }
+
+    /**
+     *  ring buffer에 마지막으로 보관한 값
+     */
+    public T getLastValue() {
+        long end = sequence.get();
+        if (end == 0) {
+            throw new IllegalStateException("no value has been captured");
+        }
+        return values.get((int) ((end - 1) & mask));
+    }
+
+    @Override
+    public String toString() {
+        return "<Bounded argument captor>";
+    }
+}
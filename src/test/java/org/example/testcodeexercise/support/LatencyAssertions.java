@@ -0,0 +1,140 @@
+package org.example.testcodeexercise.support;
+
+import org.junit.jupiter.api.function.Executable;
+import org.opentest4j.AssertionFailedError;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ *  LatencyAssertions
+ *  - 실행 코드를 여러 번(선택적으로 여러 스레드에서 동시에) 실행하여 실행 시간의 백분위 값을 검증
+ *  - assertTimeout()은 한 번의 실행 시간만 검증하므로, 꼬리 지연(p99, max)은 확인할 수 없음
+ *  - 스레드마다 warmupIterations 만큼 먼저 실행한 뒤 iterations 회의 실행 시간을 모두 기록
+ *  - 검증에 실패하면 측정한 분포(LatencyHistogram)를 실패 메시지에 포함
+ *
+ *  다른 테스트와 CPU를 나눠 쓰면 측정값이 커지므로, 기준이 엄격한 테스트 클래스에는 @Isolated 지정
+ */
+public final class LatencyAssertions {
+
+    private LatencyAssertions() {
+    }
+
+    /**
+     *  @param warmupIterations 스레드별 측정 전 실행 횟수
+     *  @param iterations 스레드별 측정 횟수
+     *  @param threads 동시에 실행할 스레드 수 (1이면 현재 스레드에서 실행)
+     */
+    public record Settings(int warmupIterations, int iterations, int threads) {
+
+        public static final Settings DEFAULT = new Settings(10_000, 10_000, 1);
+
+        public Settings {
+            if (warmupIterations < 0 || iterations < 1 || threads < 1) {
+                throw new IllegalArgumentException("invalid settings: " + warmupIterations + ", " + iterations + ", " + threads);
+            }
+        }
+    }
+
+    /**
+     *  검증 기준. null인 항목은 검증하지 않음
+     */
+    public record Thresholds(Duration p50, Duration p99, Duration max) {
+    }
+
+    public static LatencyHistogram assertLatency(Thresholds thresholds, Executable executable) {
+        return assertLatency(Settings.DEFAULT, thresholds, executable);
+    }
+
+    public static LatencyHistogram assertLatency(Settings settings, Thresholds thresholds, Executable executable) {
+        LatencyHistogram histogram = measureLatency(settings, executable);
+        List<String> violations = new ArrayList<>();
+        check(violations, "p50", histogram.p50(), thresholds.p50());
+        check(violations, "p99", histogram.p99(), thresholds.p99());
+        check(violations, "max", histogram.max(), thresholds.max());
+        if (!violations.isEmpty()) {
+            throw new AssertionFailedError(String.join(", ", violations)
+                    + String.format(" (%d threads x %d iterations after %d warm-up iterations)%n",
+                    settings.threads(), settings.iterations(), settings.warmupIterations())
+                    + histogram);
+        }
+        return histogram;
+    }
+
+    public static LatencyHistogram measureLatency(Settings settings, Executable executable) {
+        if (settings.threads() == 1) {
+            return new LatencyHistogram(run(settings, executable));
+        }
+
+        long[][] latencies = new long[settings.threads()][];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < settings.threads(); i++) {
+            int index = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    latencies[index] = run(settings, executable);
+                } catch (Throwable throwable) {
+                    failure.compareAndSet(null, throwable);
+                }
+            }, "latency-assertions-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            threads.forEach(Thread::interrupt);
+            Thread.currentThread().interrupt();
+            throw new AssertionFailedError("interrupted while measuring latency", e);
+        }
+
+        if (failure.get() != null) {
+            Throwable throwable = failure.get();
+            throw throwable instanceof AssertionFailedError assertionFailedError ? assertionFailedError
+                    : new AssertionFailedError("Unexpected exception thrown: " + throwable.getClass().getName(), throwable);
+        }
+
+        long[] merged = new long[settings.threads() * settings.iterations()];
+        for (int i = 0; i < latencies.length; i++) {
+            System.arraycopy(latencies[i], 0, merged, i * settings.iterations(), settings.iterations());
+        }
+        return new LatencyHistogram(merged);
+    }
+
+    public static LatencyHistogram measureLatency(Executable executable) {
+        return measureLatency(Settings.DEFAULT, executable);
+    }
+
+    private static long[] run(Settings settings, Executable executable) {
+        long[] latencies = new long[settings.iterations()];
+        try {
+            for (int i = 0; i < settings.warmupIterations(); i++) {
+                executable.execute();
+            }
+            for (int i = 0; i < latencies.length; i++) {
+                long start = System.nanoTime();
+                executable.execute();
+                latencies[i] = System.nanoTime() - start;
+            }
+        } catch (Throwable throwable) {
+            throw new AssertionFailedError("Unexpected exception thrown: " + throwable.getClass().getName(), throwable);
+        }
+        return latencies;
+    }
+
+    private static void check(List<String> violations, String name, Duration actual, Duration threshold) {
+        if (threshold != null && actual.compareTo(threshold) > 0) {
+            violations.add(String.format("%s latency %s exceeded %s", name, actual, threshold));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.testcodeexercise.support;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ *  측정한 실행 시간(ns)의 분포
+ *  - 모든 측정값을 정렬해 보관하므로 백분위 값이 정확함
+ *  - toString() : 주요 백분위 값과 2의 거듭제곱 단위 구간별 분포를 막대 그래프로 출력 (검증 실패 메시지에 포함)
+ */
+public final class LatencyHistogram {
+
+    private static final int BAR_WIDTH = 40;
+
+    private final long[] sortedNanos;
+
+    LatencyHistogram(long[] latencyNanos) {
+        this.sortedNanos = latencyNanos.clone();
+        Arrays.sort(this.sortedNanos);
+    }
+
+    public int count() {
+        return sortedNanos.length;
+    }
+
+    /**
+     *  @param percentile 0 ~ 100
+     */
+    public Duration percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        if (sortedNanos.length == 0) {
+            return Duration.ZERO;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sortedNanos.length) - 1;
+        return Duration.ofNanos(sortedNanos[Math.max(index, 0)]);
+    }
+
+    public Duration p50() {
+        return percentile(50);
+    }
+
+    public Duration p99() {
+        return percentile(99);
+    }
+
+    public Duration max() {
+        return sortedNanos.length == 0 ? Duration.ZERO : Duration.ofNanos(sortedNanos[sortedNanos.length - 1]);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("count=%d p50=%s p90=%s p99=%s p99.9=%s max=%s%n", count(),
+                format(p50().toNanos()), format(percentile(90).toNanos()), format(p99().toNanos()),
+                format(percentile(99.9).toNanos()), format(max().toNanos())));
+
+        // [2^(k-1), 2^k) ns 구간별 개수
+        int[] buckets = new int[64];
+        int maxCount = 0;
+        for (long nanos : sortedNanos) {
+            int bucket = 64 - Long.numberOfLeadingZeros(Math.max(nanos, 0));
+            maxCount = Math.max(maxCount, ++buckets[bucket]);
+        }
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            if (buckets[bucket] == 0) {
+                continue;
+            }
+            long upperNanos = bucket == 0 ? 1 : 1L << Math.min(bucket, 62);
+            int width = (int) Math.ceil((double) buckets[bucket] * BAR_WIDTH / maxCount);
+            out.append(String.format("  < %9s | %-" + BAR_WIDTH + "s %d%n", format(upperNanos), "#".repeat(width), buckets[bucket]));
+        }
+        return out.toString();
+    }
+
+    private static String format(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000) {
+            return String.format("%.1fus", nanos / 1_000.0);
+        }
+        if (nanos < 1_000_000_000) {
+            return String.format("%.1fms", nanos / 1_000_000.0);
+        }
+        return String.format("%.2fs", nanos / 1_000_000_000.0);
+    }
+}
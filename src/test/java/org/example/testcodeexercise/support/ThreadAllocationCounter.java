@@ -0,0 +1,32 @@
+package org.example.testcodeexercise.support;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ *  현재 스레드가 할당한 누적 바이트 (com.sun.management.ThreadMXBean의 스레드별 할당 카운터)
+ *  - 카운터를 지원하지 않는 JVM에서는 isSupported()가 false이고 currentThreadAllocatedBytes()는 -1
+ */
+public final class ThreadAllocationCounter {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private ThreadAllocationCounter() {
+    }
+
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    public static long currentThreadAllocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.testcodeexercise.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+
+/**
+ *  VirtualScheduler
+ *  - 테스트에서 사용하는 가상 시간 스케줄러
+ *  - 실제로 시간을 기다리지 않고, advanceBy()로 시간을 명시적으로 진행시키면 그 사이에 실행되어야 하는 작업을 호출한 스레드에서 실행
+ *  - 실행 시각이 같은 작업은 등록한 순서대로 실행되므로, 실행 순서가 항상 동일함
+ *
+ *  CompletableFuture.delayedExecutor(delay, unit) 대신 delayedExecutor(delay)를 사용하면 지연 후 실행되는 비동기 작업을 가상 시간으로 대체할 수 있음
+ */
+public final class VirtualScheduler {
+
+    private final PriorityQueue<ScheduledTask> tasks = new PriorityQueue<>();
+    private long nowNanos;
+    private long sequence;
+
+    /**
+     *  delay 이후에 실행되도록 작업 등록
+     */
+    public synchronized void schedule(Duration delay, Runnable task) {
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("delay must not be negative: " + delay);
+        }
+        tasks.add(new ScheduledTask(nowNanos + delay.toNanos(), sequence++, task));
+    }
+
+    /**
+     *  전달받은 작업을 delay 이후에 실행하는 Executor 반환
+     */
+    public Executor delayedExecutor(Duration delay) {
+        return task -> schedule(delay, task);
+    }
+
+    /**
+     *  가상 시간을 duration만큼 진행시키면서, 그 사이에 실행 시각이 도래한 작업을 시각 순서대로 실행
+     *  - 실행 중인 작업이 새로 등록한 작업도 실행 시각이 범위 안이면 함께 실행
+     */
+    public void advanceBy(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("duration must not be negative: " + duration);
+        }
+        long deadline;
+        synchronized (this) {
+            deadline = nowNanos + duration.toNanos();
+        }
+        ScheduledTask next;
+        while ((next = pollDue(deadline)) != null) {
+            next.task().run();
+        }
+        synchronized (this) {
+            nowNanos = Math.max(nowNanos, deadline);
+        }
+    }
+
+    /**
+     *  등록된 작업이 없어질 때까지 가상 시간을 진행
+     */
+    public void runUntilIdle() {
+        ScheduledTask next;
+        while ((next = pollDue(Long.MAX_VALUE)) != null) {
+            next.task().run();
+        }
+    }
+
+    private synchronized ScheduledTask pollDue(long deadline) {
+        ScheduledTask head = tasks.peek();
+        if (head == null || head.dueNanos() > deadline) {
+            return null;
+        }
+        nowNanos = Math.max(nowNanos, head.dueNanos());
+        return tasks.poll();
+    }
+
+    /**
+     *  스케줄러를 생성한 이후 진행된 가상 시간
+     */
+    public synchronized Duration elapsed() {
+        return Duration.ofNanos(nowNanos);
+    }
+
+    public synchronized int pendingTasks() {
+        return tasks.size();
+    }
+
+    /**
+     *  가상 시간을 반환하는 Clock (Instant.EPOCH에서 시작)
+     */
+    public Clock clock() {
+        return new VirtualClock(ZoneOffset.UTC);
+    }
+
+    private record ScheduledTask(long dueNanos, long sequence, Runnable task) implements Comparable<ScheduledTask> {
+
+        @Override
+        public int compareTo(ScheduledTask other) {
+            int byTime = Long.compare(dueNanos, other.dueNanos);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final class VirtualClock extends Clock {
+
+        private final ZoneId zone;
+
+        private VirtualClock(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new VirtualClock(zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.EPOCH.plus(elapsed());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.testcodeexercise.support.impact;
+
+import org.jacoco.core.internal.data.CRC64;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *  프로젝트 클래스 디렉터리에 있는 클래스 파일의 현재 hash
+ *  - JaCoCo agent가 기록하는 class id와 같은 값 (클래스 파일 바이트의 CRC64)
+ *  - 클래스 디렉터리에 없는 클래스(라이브러리, JDK)는 empty
+ */
+class ClassHashes {
+
+    private final List<Path> classDirectories;
+    private final Map<String, Optional<String>> hashes = new ConcurrentHashMap<>();
+
+    ClassHashes(List<Path> classDirectories) {
+        this.classDirectories = List.copyOf(classDirectories);
+    }
+
+    static String hash(long classId) {
+        return Long.toHexString(classId);
+    }
+
+    /**
+     *  @param className binary name (org.example.Outer$Inner)
+     */
+    Optional<String> current(String className) {
+        return hashes.computeIfAbsent(className, this::read);
+    }
+
+    boolean isProjectClass(String className) {
+        return current(className).isPresent();
+    }
+
+    private Optional<String> read(String className) {
+        String fileName = className.replace('.', '/') + ".class";
+        for (Path directory : classDirectories) {
+            Path file = directory.resolve(fileName);
+            if (Files.isRegularFile(file)) {
+                try {
+                    return Optional.of(hash(CRC64.classId(Files.readAllBytes(file))));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
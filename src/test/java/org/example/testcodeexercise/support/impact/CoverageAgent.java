@@ -0,0 +1,30 @@
+package org.example.testcodeexercise.support.impact;
+
+import java.util.Optional;
+
+/**
+ *  TestImpactRecorder가 사용하는 coverage agent의 실행 데이터 (JaCoCo exec 형식)
+ */
+interface CoverageAgent {
+
+    /**
+     *  지금까지의 실행 데이터를 버림
+     */
+    void reset();
+
+    /**
+     *  마지막 초기화 이후의 실행 데이터를 반환하고 초기화
+     */
+    byte[] dump();
+
+    /**
+     *  -javaagent 로 붙은 JaCoCo agent. agent가 없으면 empty
+     */
+    static Optional<CoverageAgent> jacoco() {
+        try {
+            return Optional.of(new JacocoCoverageAgent());
+        } catch (IllegalStateException | NoClassDefFoundError e) {
+            return Optional.empty();
+        }
+    }
+}
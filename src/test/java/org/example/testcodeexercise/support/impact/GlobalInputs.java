@@ -0,0 +1,70 @@
+package org.example.testcodeexercise.support.impact;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ *  클래스 파일 외에 모든 테스트의 동작에 영향을 주는 입력(resource, 라이브러리 jar, 빌드 스크립트)의 현재 hash
+ *  - 디렉터리는 안의 모든 파일의 상대 경로와 내용으로, 파일은 내용으로 hash (없는 입력은 "missing")
+ *  - 의존 클래스 기록으로는 application.properties나 라이브러리 버전 변경의 영향을 알 수 없으므로, 하나라도 바뀌면 모든 테스트를 선택
+ */
+final class GlobalInputs {
+
+    private static final String MISSING = "missing";
+
+    private GlobalInputs() {
+    }
+
+    /**
+     *  @return 입력 경로별 hash
+     */
+    static Map<String, String> fingerprint(List<Path> inputs) {
+        Map<String, String> fingerprint = new TreeMap<>();
+        for (Path input : inputs) {
+            fingerprint.put(input.toString(), hash(input));
+        }
+        return fingerprint;
+    }
+
+    private static String hash(Path input) {
+        if (!Files.exists(input)) {
+            return MISSING;
+        }
+        MessageDigest digest = sha256();
+        try {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> files = Files.walk(input)) {
+                    for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                        digest.update(input.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                        digest.update((byte) 0);
+                        digest.update(Files.readAllBytes(file));
+                        digest.update((byte) 0);
+                    }
+                }
+            } else {
+                digest.update(Files.readAllBytes(input));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.testcodeexercise.support.impact;
+
+import org.jacoco.agent.rt.IAgent;
+import org.jacoco.agent.rt.RT;
+
+/**
+ *  JaCoCo agent runtime(org.jacoco.agent.rt)을 사용하는 CoverageAgent
+ *  - agent가 붙지 않은 JVM에서는 생성할 때 IllegalStateException (agent jar가 없으면 NoClassDefFoundError)
+ */
+final class JacocoCoverageAgent implements CoverageAgent {
+
+    private final IAgent agent = RT.getAgent();
+
+    @Override
+    public void reset() {
+        agent.reset();
+    }
+
+    @Override
+    public byte[] dump() {
+        return agent.getExecutionData(true);
+    }
+}
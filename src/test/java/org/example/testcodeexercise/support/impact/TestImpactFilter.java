@@ -0,0 +1,97 @@
+package org.example.testcodeexercise.support.impact;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ *  TestImpactIndex에 기록된 이후 의존 클래스가 바뀐 최상위 테스트 클래스만 실행 (META-INF/services 로 Launcher에 등록)
+ *  - testimpact.enabled=true 일 때만 동작하며, testimpact.full=true 이거나 index가 없으면 전체 실행
+ *  - 기록 이후 GlobalInputs(resource, 라이브러리 jar, 빌드 스크립트)가 바뀌었어도 전체 실행
+ *  - Launcher는 자식이 없는 descriptor만 제외하므로, 테스트 메서드와 @Nested 클래스도 최상위 클래스의 판단을 그대로 따르고
+ *    테스트가 모두 제외된 클래스는 Launcher가 정리(prune)
+ *  - 제외된 클래스의 기록은 그대로 유지되므로 다음 실행에서도 같은 기준(baseline)으로 비교
+ */
+@Slf4j
+public class TestImpactFilter implements PostDiscoveryFilter {
+
+    private final TestImpactSettings settings;
+    private final Map<String, FilterResult> verdicts = new HashMap<>();
+    private TestImpactIndex index;
+    private ClassHashes hashes;
+    private Optional<String> globalChange;
+
+    public TestImpactFilter() {
+        this(TestImpactSettings.fromSystemProperties());
+    }
+
+    TestImpactFilter(TestImpactSettings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (!settings.enabled() || settings.full()) {
+            return FilterResult.included("test impact analysis disabled");
+        }
+        Optional<String> testClass = topLevelClassName(descriptor);
+        if (testClass.isEmpty()) {
+            return FilterResult.included("not part of a test class");
+        }
+        return verdicts.computeIfAbsent(testClass.get(), this::verdict);
+    }
+
+    private FilterResult verdict(String testClass) {
+        TestImpactIndex index = index();
+        if (globalChange.isPresent()) {
+            return FilterResult.included(globalChange.get());
+        }
+        Optional<String> change = index.changeSince(testClass, hashes);
+        if (change.isPresent()) {
+            log.debug("running {}: {}", testClass, change.get());
+            return FilterResult.included(change.get());
+        }
+        log.debug("skipping {}: no dependency changed since the recorded baseline", testClass);
+        return FilterResult.excluded("no dependency changed since the recorded baseline");
+    }
+
+    private TestImpactIndex index() {
+        if (index == null) {
+            try {
+                index = TestImpactIndex.load(settings.index());
+            } catch (IOException e) {
+                log.warn("test impact index {} is unreadable, running all tests", settings.index(), e);
+                index = TestImpactIndex.empty();
+            }
+            hashes = new ClassHashes(settings.classDirectories());
+            globalChange = index.isEmpty()
+                    ? Optional.empty()
+                    : index.globalChangeSince(GlobalInputs.fingerprint(settings.globalInputs()));
+            globalChange.ifPresent(change -> log.info("running all tests: {} since the recorded baseline", change));
+        }
+        return index;
+    }
+
+    /**
+     *  descriptor 자신 또는 조상 중 가장 바깥의 테스트 클래스 (@Nested 클래스와 테스트 메서드는 바깥 클래스)
+     */
+    private static Optional<String> topLevelClassName(TestDescriptor descriptor) {
+        Optional<String> className = Optional.empty();
+        for (Optional<TestDescriptor> current = Optional.of(descriptor); current.isPresent(); current = current.get().getParent()) {
+            Optional<String> currentClassName = current.get().getSource()
+                    .filter(ClassSource.class::isInstance)
+                    .map(source -> ((ClassSource) source).getClassName());
+            if (currentClassName.isPresent()) {
+                className = currentClassName;
+            }
+        }
+        return className;
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.testcodeexercise.support.impact;
+
+import org.example.testcodeexercise.exercise.extension.EngineTestKitOnly;
+import org.example.testcodeexercise.exercise.extension.EngineTestKitOnlyCondition;
+import org.example.testcodeexercise.service.DummyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ *  TestImpactFilter를 적용해 fixture 클래스들을 EngineTestKit으로 실행
+ *  - UnchangedFixture는 기록된 의존 클래스가 그대로이므로 @Nested 클래스를 포함해 실행하지 않음
+ *  - ChangedFixture는 기록 이후 의존 클래스가 바뀌었고, UnrecordedFixture는 기록이 없으므로 실행
+ *  - resource(GlobalInputs)가 바뀌면 기록과 관계없이 모두 실행
+ */
+class TestImpactFilterTest {
+
+    private static final String DEPENDENCY = DummyService.class.getName();
+
+    @TempDir
+    Path directory;
+
+    private Path classDirectory;
+    private Path resourceDirectory;
+    private Path indexFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        classDirectory = directory.resolve("classes");
+        Path classFile = classDirectory.resolve(DEPENDENCY.replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        try (InputStream in = DummyService.class.getResourceAsStream("DummyService.class")) {
+            Files.write(classFile, in.readAllBytes());
+        }
+
+        resourceDirectory = directory.resolve("resources");
+        Files.createDirectories(resourceDirectory);
+        Files.writeString(resourceDirectory.resolve("application.properties"), "dummy.batch.parallel-threshold=8192");
+
+        indexFile = directory.resolve("index.json");
+        TestImpactIndex index = TestImpactIndex.empty();
+        index.setGlobalInputs(GlobalInputs.fingerprint(List.of(resourceDirectory)));
+        index.record(UnchangedFixture.class.getName(),
+                Map.of(DEPENDENCY, new ClassHashes(List.of(classDirectory)).current(DEPENDENCY).orElseThrow()));
+        index.record(ChangedFixture.class.getName(), Map.of(DEPENDENCY, ClassHashes.hash(0L)));
+        index.save(indexFile);
+    }
+
+    @Test
+    void unchangedClassSkippedTest() {
+        EngineExecutionResults results = execute(false);
+
+        results.testEvents().assertStatistics(stats -> stats.started(2).succeeded(2));
+        assertThat(startedContainers(results))
+                .contains("ChangedFixture", "UnrecordedFixture")
+                .doesNotContain("UnchangedFixture", "NestedFixture");
+    }
+
+    @Test
+    void fullRunTest() {
+        EngineExecutionResults results = execute(true);
+
+        results.testEvents().assertStatistics(stats -> stats.started(4).succeeded(4));
+        assertThat(startedContainers(results)).contains("UnchangedFixture", "NestedFixture");
+    }
+
+    @Test
+    void globalInputChangedTest() throws IOException {
+        Files.writeString(resourceDirectory.resolve("application.properties"), "dummy.batch.parallel-threshold=2");
+
+        EngineExecutionResults results = execute(false);
+
+        results.testEvents().assertStatistics(stats -> stats.started(4).succeeded(4));
+    }
+
+    private EngineExecutionResults execute(boolean full) {
+        TestImpactSettings settings = new TestImpactSettings(true, full, indexFile, List.of(classDirectory), List.of(resourceDirectory));
+        return EngineTestKitOnlyCondition.engine()
+                .selectors(selectClass(UnchangedFixture.class), selectClass(ChangedFixture.class), selectClass(UnrecordedFixture.class))
+                .filters(new TestImpactFilter(settings))
+                .execute();
+    }
+
+    private static List<String> startedContainers(EngineExecutionResults results) {
+        return results.containerEvents().started().stream()
+                .map(event -> event.getTestDescriptor().getDisplayName())
+                .toList();
+    }
+
+    @EngineTestKitOnly
+    static class UnchangedFixture {
+
+        @Test
+        void test() {
+        }
+
+        @Nested
+        class NestedFixture {
+
+            @Test
+            void test() {
+            }
+        }
+    }
+
+    @EngineTestKitOnly
+    static class ChangedFixture {
+
+        @Test
+        void test() {
+        }
+    }
+
+    @EngineTestKitOnly
+    static class UnrecordedFixture {
+
+        @Test
+        void test() {
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.testcodeexercise.support.impact;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ *  테스트 클래스별로 실행 중 사용한 프로젝트 클래스와 기록 당시의 class hash
+ *  - 의존 클래스 중 하나라도 hash가 바뀌었거나 삭제되었으면 영향받는 테스트로 선택
+ *  - 기록이 없는 테스트 클래스(새 테스트, 마지막 실행에서 실패한 테스트)는 항상 선택
+ *  - 테스트 클래스 자신과 @Nested, 테스트 지원 클래스도 의존 클래스로 기록되므로 테스트 코드 변경도 반영됨
+ *  - 기록 당시의 GlobalInputs hash를 함께 저장하며, 이것이 바뀌었으면 테스트별 기록과 관계없이 모든 테스트를 선택 (globalChangeSince)
+ */
+class TestImpactIndex {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, Map<String, String>> tests;
+    private Map<String, String> globalInputs;
+
+    private TestImpactIndex(Map<String, String> globalInputs, Map<String, Map<String, String>> tests) {
+        this.globalInputs = globalInputs;
+        this.tests = tests;
+    }
+
+    static TestImpactIndex empty() {
+        return new TestImpactIndex(new TreeMap<>(), new TreeMap<>());
+    }
+
+    static TestImpactIndex load(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return empty();
+        }
+        IndexFile indexFile = objectMapper.readValue(file.toFile(), IndexFile.class);
+        Map<String, Map<String, String>> tests = new TreeMap<>();
+        indexFile.tests().forEach((testClass, dependencies) -> tests.put(testClass, new TreeMap<>(dependencies)));
+        // globalInputs가 없는 이전 형식의 index는 모든 입력이 추가된 것으로 비교
+        Map<String, String> globalInputs = indexFile.globalInputs() == null ? Map.of() : indexFile.globalInputs();
+        return new TestImpactIndex(new TreeMap<>(globalInputs), tests);
+    }
+
+    void save(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), new IndexFile(globalInputs, tests));
+    }
+
+    boolean isEmpty() {
+        return tests.isEmpty();
+    }
+
+    int size() {
+        return tests.size();
+    }
+
+    void record(String testClass, Map<String, String> dependencies) {
+        tests.put(testClass, new TreeMap<>(dependencies));
+    }
+
+    void remove(String testClass) {
+        tests.remove(testClass);
+    }
+
+    void setGlobalInputs(Map<String, String> globalInputs) {
+        this.globalInputs = new TreeMap<>(globalInputs);
+    }
+
+    /**
+     *  @param current GlobalInputs.fingerprint()의 결과
+     *  @return 모든 테스트를 실행해야 하는 이유. 기록 이후 바뀐 입력이 없으면 empty
+     */
+    Optional<String> globalChangeSince(Map<String, String> current) {
+        for (Map.Entry<String, String> input : current.entrySet()) {
+            String recorded = globalInputs.get(input.getKey());
+            if (recorded == null) {
+                return Optional.of(input.getKey() + " was added");
+            }
+            if (!recorded.equals(input.getValue())) {
+                return Optional.of(input.getKey() + " changed");
+            }
+        }
+        for (String input : globalInputs.keySet()) {
+            if (!current.containsKey(input)) {
+                return Optional.of(input + " was removed");
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     *  @return 테스트를 실행해야 하는 이유. 기록 이후 의존 클래스가 바뀌지 않았으면 empty
+     */
+    Optional<String> changeSince(String testClass, ClassHashes hashes) {
+        Map<String, String> dependencies = tests.get(testClass);
+        if (dependencies == null) {
+            return Optional.of("no recorded dependencies");
+        }
+        for (Map.Entry<String, String> dependency : dependencies.entrySet()) {
+            Optional<String> current = hashes.current(dependency.getKey());
+            if (current.isEmpty()) {
+                return Optional.of(dependency.getKey() + " was removed");
+            }
+            if (!current.get().equals(dependency.getValue())) {
+                return Optional.of(dependency.getKey() + " changed");
+            }
+        }
+        return Optional.empty();
+    }
+
+    record IndexFile(Map<String, String> globalInputs, Map<String, Map<String, String>> tests) {
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.testcodeexercise.support.impact;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.jacoco.core.internal.data.CRC64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestImpactIndexTest {
+
+    private static final String TEST_CLASS = "org.example.DummyServiceTest";
+    private static final String DEPENDENCY = DummyService.class.getName();
+
+    @TempDir
+    Path classDirectory;
+
+    private byte[] classBytes;
+    private Path classFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream in = DummyService.class.getResourceAsStream("DummyService.class")) {
+            classBytes = in.readAllBytes();
+        }
+        classFile = classDirectory.resolve(DEPENDENCY.replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        Files.write(classFile, classBytes);
+    }
+
+    @Test
+    void classHashTest() {
+        ClassHashes hashes = new ClassHashes(List.of(classDirectory));
+
+        assertThat(hashes.current(DEPENDENCY)).contains(ClassHashes.hash(CRC64.classId(classBytes)));
+        assertThat(hashes.isProjectClass(String.class.getName())).isFalse();
+    }
+
+    @Test
+    void unchangedDependencyTest() {
+        TestImpactIndex index = recordedIndex();
+
+        assertThat(index.changeSince(TEST_CLASS, new ClassHashes(List.of(classDirectory)))).isEmpty();
+        assertThat(index.changeSince("org.example.NewTest", new ClassHashes(List.of(classDirectory))))
+                .contains("no recorded dependencies");
+    }
+
+    @Test
+    void changedDependencyTest() throws IOException {
+        TestImpactIndex index = recordedIndex();
+
+        byte[] changed = classBytes.clone();
+        changed[changed.length - 1] ^= 1;
+        Files.write(classFile, changed);
+        assertThat(index.changeSince(TEST_CLASS, new ClassHashes(List.of(classDirectory))))
+                .contains(DEPENDENCY + " changed");
+
+        Files.delete(classFile);
+        assertThat(index.changeSince(TEST_CLASS, new ClassHashes(List.of(classDirectory))))
+                .contains(DEPENDENCY + " was removed");
+    }
+
+    @Test
+    void globalInputChangeTest(@TempDir Path resourceDirectory) throws IOException {
+        Path properties = resourceDirectory.resolve("application.properties");
+        Files.writeString(properties, "dummy.batch.parallel-threshold=8192");
+        List<Path> inputs = List.of(resourceDirectory, classFile);
+        TestImpactIndex index = recordedIndex();
+        index.setGlobalInputs(GlobalInputs.fingerprint(inputs));
+
+        assertThat(index.globalChangeSince(GlobalInputs.fingerprint(inputs))).isEmpty();
+        assertThat(index.globalChangeSince(GlobalInputs.fingerprint(List.of(classFile)))).contains(resourceDirectory + " was removed");
+        Path buildFile = resourceDirectory.resolveSibling("build.gradle");
+        assertThat(index.globalChangeSince(GlobalInputs.fingerprint(List.of(resourceDirectory, classFile, buildFile))))
+                .contains(buildFile + " was added");
+
+        // 클래스 파일이 아닌 resource만 바뀌어도 변경으로 판단
+        Files.writeString(properties, "dummy.batch.parallel-threshold=2");
+        assertThat(index.globalChangeSince(GlobalInputs.fingerprint(inputs))).contains(resourceDirectory + " changed");
+    }
+
+    @Test
+    void saveAndLoadTest(@TempDir Path indexDirectory) throws IOException {
+        Path file = indexDirectory.resolve("test-impact/index.json");
+        TestImpactIndex index = recordedIndex();
+        index.setGlobalInputs(GlobalInputs.fingerprint(List.of(classFile)));
+        index.save(file);
+
+        TestImpactIndex loaded = TestImpactIndex.load(file);
+        assertThat(loaded.size()).isEqualTo(1);
+        assertThat(loaded.globalChangeSince(GlobalInputs.fingerprint(List.of(classFile)))).isEmpty();
+        assertThat(loaded.changeSince(TEST_CLASS, new ClassHashes(List.of(classDirectory)))).isEmpty();
+        assertThat(TestImpactIndex.load(indexDirectory.resolve("missing.json")).isEmpty()).isTrue();
+    }
+
+    private TestImpactIndex recordedIndex() {
+        TestImpactIndex index = TestImpactIndex.empty();
+        index.record(TEST_CLASS, Map.of(DEPENDENCY, new ClassHashes(List.of(classDirectory)).current(DEPENDENCY).orElseThrow()));
+        return index;
+    }
+}
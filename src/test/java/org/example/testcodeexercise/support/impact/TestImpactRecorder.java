@@ -0,0 +1,230 @@
+package org.example.testcodeexercise.support.impact;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.testcodeexercise.support.spring.ContextCacheDiagnostics;
+import org.example.testcodeexercise.support.spring.ContextCacheListener;
+import org.jacoco.core.data.ExecutionData;
+import org.jacoco.core.tools.ExecFileLoader;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.springframework.test.context.MergedContextConfiguration;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ *  최상위 테스트 클래스마다 실행 중 사용한 프로젝트 클래스를 JaCoCo agent의 실행 데이터로 수집해 TestImpactIndex에 기록
+ *  - 클래스 시작 시 agent의 실행 데이터를 초기화하고, 끝날 때 probe가 실행된 클래스를 의존 클래스로 기록 (@Nested 포함)
+ *  - 실패한 테스트가 있는 클래스는 기록을 지워 다음 실행에서도 선택되도록 함
+ *  - 실행 데이터는 JVM 전체에서 하나이므로 테스트 클래스를 순차 실행할 때만 기록 (병렬 실행이면 기록하지 않음)
+ *  - Spring 테스트 컨텍스트를 기동하는 동안 실행된 클래스는 그 컨텍스트별로 따로 모아, 캐시된 컨텍스트를 사용한 모든 테스트 클래스에 기록
+ *    (컨텍스트 기동과 사용은 ContextCacheListener로 전달받음)
+ *  - GlobalInputs의 hash를 index에 함께 기록하며, 기존 index와 다르면 기존 기록을 버리고 새로 기록
+ *  - 이전 테스트 클래스에서 이미 실행된 static 초기화 코드는 이후 클래스에 기록되지 않음
+ *    static 초기화만 바꿨다면 -PtestImpact=full 로 전체 실행
+ */
+@Slf4j
+public class TestImpactRecorder implements TestExecutionListener, ContextCacheListener {
+
+    private static final String PARALLEL_PARAMETER = "junit.jupiter.execution.parallel.enabled";
+
+    private final TestImpactSettings settings;
+    private final Supplier<Optional<CoverageAgent>> agents;
+    private final Set<String> failedClasses = new HashSet<>();
+    private final Map<String, String> classDependencies = new HashMap<>();
+    private final Set<MergedContextConfiguration> usedContexts = new HashSet<>();
+    private final Deque<Map<String, String>> loadingContexts = new ArrayDeque<>();
+    private final Map<MergedContextConfiguration, Map<String, String>> contextDependencies = new HashMap<>();
+    private TestPlan testPlan;
+    private CoverageAgent agent;
+    private TestImpactIndex index;
+    private ClassHashes hashes;
+    private int recorded;
+    // 실행 중인 최상위 테스트 클래스의 스레드. 다른 스레드의 컨텍스트 기동은 기록하지 않음
+    private volatile Thread classThread;
+
+    public TestImpactRecorder() {
+        this(TestImpactSettings.fromSystemProperties(), CoverageAgent::jacoco);
+    }
+
+    TestImpactRecorder(TestImpactSettings settings, Supplier<Optional<CoverageAgent>> agents) {
+        this.settings = settings;
+        this.agents = agents;
+    }
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        if (!settings.enabled()) {
+            return;
+        }
+        if (testPlan.getConfigurationParameters().getBoolean(PARALLEL_PARAMETER).orElse(false)) {
+            log.warn("test impact recording skipped: test classes run in parallel ({}=true)", PARALLEL_PARAMETER);
+            return;
+        }
+        Optional<CoverageAgent> coverageAgent = agents.get();
+        if (coverageAgent.isEmpty()) {
+            log.warn("test impact recording skipped: JaCoCo agent is not attached");
+            return;
+        }
+        try {
+            index = settings.full() ? TestImpactIndex.empty() : TestImpactIndex.load(settings.index());
+        } catch (IOException e) {
+            log.warn("test impact index {} is unreadable, recording a new one", settings.index(), e);
+            index = TestImpactIndex.empty();
+        }
+        Map<String, String> globalInputs = GlobalInputs.fingerprint(settings.globalInputs());
+        Optional<String> globalChange = index.isEmpty() ? Optional.empty() : index.globalChangeSince(globalInputs);
+        if (globalChange.isPresent()) {
+            log.info("test impact index {}: {} since the recorded baseline, recording a new one", settings.index(), globalChange.get());
+            index = TestImpactIndex.empty();
+        }
+        index.setGlobalInputs(globalInputs);
+        this.testPlan = testPlan;
+        hashes = new ClassHashes(settings.classDirectories());
+        failedClasses.clear();
+        contextDependencies.clear();
+        recorded = 0;
+        agent = coverageAgent.get();
+        ContextCacheDiagnostics.addListener(this);
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (agent != null && isTopLevelClass(testIdentifier)) {
+            agent.reset();
+            classDependencies.clear();
+            usedContexts.clear();
+            loadingContexts.clear();
+            classThread = Thread.currentThread();
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (agent == null) {
+            return;
+        }
+        if (testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
+            topLevelClass(testIdentifier).ifPresent(failedClasses::add);
+        }
+        if (isTopLevelClass(testIdentifier)) {
+            classThread = null;
+            collect();
+            String testClass = className(testIdentifier);
+            Map<String, String> dependencies = new HashMap<>(classDependencies);
+            for (MergedContextConfiguration context : usedContexts) {
+                dependencies.putAll(contextDependencies.getOrDefault(context, Map.of()));
+            }
+            if (failedClasses.contains(testClass)) {
+                index.remove(testClass);
+            } else {
+                index.record(testClass, dependencies);
+                recorded++;
+            }
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (agent == null) {
+            return;
+        }
+        ContextCacheDiagnostics.removeListener(this);
+        try {
+            index.save(settings.index());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("test impact index {}: recorded {} test classes ({} in total)", settings.index(), recorded, index.size());
+        agent = null;
+    }
+
+    /**
+     *  컨텍스트 기동 전까지 실행된 클래스는 테스트 클래스(와 바깥 컨텍스트 기동)에 기록하고, 기동하는 동안 실행된 클래스를 따로 모음
+     */
+    @Override
+    public void loadStarted(MergedContextConfiguration configuration) {
+        if (Thread.currentThread() == classThread) {
+            collect();
+            loadingContexts.push(new HashMap<>());
+        }
+    }
+
+    @Override
+    public void loadFinished(MergedContextConfiguration configuration) {
+        if (Thread.currentThread() == classThread && !loadingContexts.isEmpty()) {
+            collect();
+            contextDependencies.put(configuration, loadingContexts.pop());
+        }
+    }
+
+    @Override
+    public void contextUsed(MergedContextConfiguration configuration) {
+        if (Thread.currentThread() == classThread) {
+            usedContexts.add(configuration);
+        }
+    }
+
+    /**
+     *  마지막 조회 이후 실행된 클래스를 테스트 클래스와 기동 중인 모든 컨텍스트에 기록
+     */
+    private void collect() {
+        Map<String, String> touched = touchedClasses();
+        classDependencies.putAll(touched);
+        loadingContexts.forEach(dependencies -> dependencies.putAll(touched));
+    }
+
+    /**
+     *  마지막 초기화 이후 probe가 실행된 프로젝트 클래스와 class hash. 조회한 실행 데이터는 다시 초기화
+     */
+    private Map<String, String> touchedClasses() {
+        ExecFileLoader loader = new ExecFileLoader();
+        try {
+            loader.load(new ByteArrayInputStream(agent.dump()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Map<String, String> touched = new HashMap<>();
+        for (ExecutionData data : loader.getExecutionDataStore().getContents()) {
+            String className = data.getName().replace('/', '.');
+            if (data.hasHits() && hashes.isProjectClass(className)) {
+                touched.put(className, ClassHashes.hash(data.getId()));
+            }
+        }
+        return touched;
+    }
+
+    private boolean isTopLevelClass(TestIdentifier testIdentifier) {
+        return testIdentifier.getSource().filter(ClassSource.class::isInstance).isPresent()
+                && testPlan.getParent(testIdentifier)
+                .flatMap(TestIdentifier::getSource)
+                .filter(ClassSource.class::isInstance)
+                .isEmpty();
+    }
+
+    private Optional<String> topLevelClass(TestIdentifier testIdentifier) {
+        Optional<TestIdentifier> current = Optional.of(testIdentifier);
+        while (current.isPresent() && !isTopLevelClass(current.get())) {
+            current = testPlan.getParent(current.get());
+        }
+        return current.map(TestImpactRecorder::className);
+    }
+
+    private static String className(TestIdentifier testIdentifier) {
+        return testIdentifier.getSource()
+                .map(source -> ((ClassSource) source).getClassName())
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.testcodeexercise.support.impact;
+
+import org.example.testcodeexercise.exercise.extension.EngineTestKitOnly;
+import org.example.testcodeexercise.exercise.extension.EngineTestKitOnlyCondition;
+import org.example.testcodeexercise.service.DummyService;
+import org.jacoco.core.data.ExecutionData;
+import org.jacoco.core.data.ExecutionDataWriter;
+import org.jacoco.core.internal.data.CRC64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ *  TestImpactRecorder를 등록한 Launcher로 fixture 클래스들을 실행하고 기록된 index를 확인
+ *  - JaCoCo agent 대신 DummyService와 프로젝트 밖의 클래스(String)가 실행된 것으로 응답하는 CoverageAgent를 사용
+ *  - 기록한 index로 TestImpactFilter를 적용하면 실패했던 FailingFixture만 다시 실행
+ *  - 같은 Spring 컨텍스트를 사용하는 두 fixture 중 컨텍스트를 캐시에서 꺼낸 쪽에도 컨텍스트 기동 중에 실행된 클래스를 기록
+ */
+class TestImpactRecorderTest {
+
+    private static final String DEPENDENCY = DummyService.class.getName();
+    // BootConfiguration이 기동되면 true. FakeCoverageAgent는 이때만 DummyService가 실행된 것으로 응답
+    private static final AtomicBoolean contextBooted = new AtomicBoolean();
+
+    @TempDir
+    Path directory;
+
+    private Path classDirectory;
+    private Path classFile;
+    private byte[] classBytes;
+    private TestImpactSettings settings;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        classDirectory = directory.resolve("classes");
+        classFile = classDirectory.resolve(DEPENDENCY.replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        try (InputStream in = DummyService.class.getResourceAsStream("DummyService.class")) {
+            classBytes = in.readAllBytes();
+        }
+        Files.write(classFile, classBytes);
+        settings = new TestImpactSettings(true, false, directory.resolve("index.json"), List.of(classDirectory), List.of());
+    }
+
+    @Test
+    void recordTest() throws IOException {
+        FakeCoverageAgent agent = new FakeCoverageAgent(() -> true);
+
+        SummaryGeneratingListener summary = execute(new TestImpactRecorder(settings, () -> Optional.of(agent)),
+                PassingFixture.class, FailingFixture.class);
+
+        assertThat(summary.getSummary().getTestsStartedCount()).isEqualTo(3);
+        assertThat(agent.resets).as("reset once per top-level class").isEqualTo(2);
+        TestImpactIndex index = TestImpactIndex.load(settings.index());
+        assertThat(index.size()).isEqualTo(1);
+        ClassHashes hashes = new ClassHashes(settings.classDirectories());
+        assertThat(index.changeSince(PassingFixture.class.getName(), hashes)).isEmpty();
+        assertThat(index.changeSince(FailingFixture.class.getName(), hashes)).contains("no recorded dependencies");
+
+        SummaryGeneratingListener filtered = execute(new TestImpactFilter(settings), PassingFixture.class, FailingFixture.class);
+        assertThat(filtered.getSummary().getTestsStartedCount()).isEqualTo(1);
+        assertThat(filtered.getSummary().getTestsFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cachedContextTest() throws IOException {
+        contextBooted.set(false);
+        FakeCoverageAgent agent = new FakeCoverageAgent(() -> contextBooted.getAndSet(false));
+
+        SummaryGeneratingListener summary = execute(new TestImpactRecorder(settings, () -> Optional.of(agent)),
+                FirstContextFixture.class, SecondContextFixture.class);
+
+        assertThat(summary.getSummary().getTestsSucceededCount()).isEqualTo(2);
+        TestImpactIndex index = TestImpactIndex.load(settings.index());
+        assertThat(index.size()).isEqualTo(2);
+
+        // 컨텍스트를 기동한 클래스와 캐시에서 꺼낸 클래스 모두 DummyService 변경의 영향을 받음
+        byte[] changed = classBytes.clone();
+        changed[changed.length - 1] ^= 1;
+        Files.write(classFile, changed);
+        ClassHashes hashes = new ClassHashes(settings.classDirectories());
+        assertThat(index.changeSince(FirstContextFixture.class.getName(), hashes)).contains(DEPENDENCY + " changed");
+        assertThat(index.changeSince(SecondContextFixture.class.getName(), hashes)).contains(DEPENDENCY + " changed");
+    }
+
+    @Test
+    void globalInputChangeTest() throws IOException {
+        TestImpactIndex stale = TestImpactIndex.empty();
+        stale.setGlobalInputs(Map.of("build.gradle", "stale"));
+        stale.record("org.example.RemovedTest", Map.of());
+        stale.save(settings.index());
+
+        execute(new TestImpactRecorder(settings, () -> Optional.of(new FakeCoverageAgent(() -> true))), PassingFixture.class);
+
+        // 기록 당시와 입력이 다르면 기존 기록을 버리고 새로 기록
+        TestImpactIndex index = TestImpactIndex.load(settings.index());
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.globalChangeSince(GlobalInputs.fingerprint(settings.globalInputs()))).isEmpty();
+    }
+
+    @Test
+    void agentNotAttachedTest() {
+        execute(new TestImpactRecorder(settings, Optional::empty), PassingFixture.class, FailingFixture.class);
+
+        assertThat(settings.index()).doesNotExist();
+    }
+
+    private SummaryGeneratingListener execute(TestImpactRecorder recorder, Class<?>... testClasses) {
+        SummaryGeneratingListener summary = new SummaryGeneratingListener();
+        LauncherFactory.create(launcherConfig()).execute(
+                request(testClasses).configurationParameter("junit.jupiter.execution.parallel.enabled", "false").build(),
+                recorder, summary);
+        return summary;
+    }
+
+    private SummaryGeneratingListener execute(TestImpactFilter filter, Class<?>... testClasses) {
+        SummaryGeneratingListener summary = new SummaryGeneratingListener();
+        LauncherFactory.create(launcherConfig()).execute(request(testClasses).filters(filter).build(), summary);
+        return summary;
+    }
+
+    private static LauncherDiscoveryRequestBuilder request(Class<?>... testClasses) {
+        return LauncherDiscoveryRequestBuilder.request()
+                .selectors(Arrays.stream(testClasses).map(DiscoverySelectors::selectClass).toList())
+                .configurationParameters(EngineTestKitOnlyCondition.configurationParameters());
+    }
+
+    /**
+     *  바깥 실행에 등록된 listener와 filter(TestImpactRecorder, TestImpactFilter 등)를 중첩 실행에 붙이지 않음
+     */
+    private static LauncherConfig launcherConfig() {
+        return LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .enablePostDiscoveryFilterAutoRegistration(false)
+                .enableLauncherDiscoveryListenerAutoRegistration(false)
+                .enableLauncherSessionListenerAutoRegistration(false)
+                .build();
+    }
+
+    private class FakeCoverageAgent implements CoverageAgent {
+
+        private final BooleanSupplier dependencyTouched;
+        private int resets;
+
+        FakeCoverageAgent(BooleanSupplier dependencyTouched) {
+            this.dependencyTouched = dependencyTouched;
+        }
+
+        @Override
+        public void reset() {
+            resets++;
+        }
+
+        @Override
+        public byte[] dump() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                ExecutionDataWriter writer = new ExecutionDataWriter(out);
+                if (dependencyTouched.getAsBoolean()) {
+                    writer.visitClassExecution(new ExecutionData(CRC64.classId(classBytes), DEPENDENCY.replace('.', '/'), new boolean[]{true}));
+                }
+                writer.visitClassExecution(new ExecutionData(1L, "java/lang/String", new boolean[]{true}));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    @EngineTestKitOnly
+    static class PassingFixture {
+
+        @Test
+        void test() {
+        }
+
+        @Nested
+        class NestedFixture {
+
+            @Test
+            void test() {
+            }
+        }
+    }
+
+    @EngineTestKitOnly
+    static class FailingFixture {
+
+        @Test
+        void test() {
+            throw new IllegalStateException("fixture failure");
+        }
+    }
+
+    @EngineTestKitOnly
+    @SpringJUnitConfig(BootConfiguration.class)
+    static class FirstContextFixture {
+
+        @Test
+        void test() {
+        }
+    }
+
+    @EngineTestKitOnly
+    @SpringJUnitConfig(BootConfiguration.class)
+    static class SecondContextFixture {
+
+        @Test
+        void test() {
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class BootConfiguration {
+
+        @Bean
+        String bootMarker() {
+            contextBooted.set(true);
+            return "booted";
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.testcodeexercise.support.impact;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ *  테스트 영향 분석 설정 (./gradlew test -PtestImpact 로 실행하면 build.gradle 에서 system property로 전달)
+ *  - testimpact.enabled : 테스트 클래스별 의존 클래스 기록과 영향받는 테스트 선택 사용 여부
+ *  - testimpact.full : 기록과 관계없이 전체 테스트를 실행하고 index를 새로 기록
+ *  - testimpact.index : index 파일 경로 (기본값 build/test-impact/index.json)
+ *  - testimpact.classDirectories : 의존 클래스로 기록할 프로젝트 클래스 디렉터리 (path separator로 구분)
+ *  - testimpact.globalInputs : 바뀌면 모든 테스트를 실행할 입력 (resource 디렉터리, 라이브러리 jar, 빌드 스크립트. path separator로 구분)
+ *  - PostDiscoveryFilter는 configuration parameter를 받을 수 없으므로 system property만 사용
+ */
+record TestImpactSettings(boolean enabled, boolean full, Path index, List<Path> classDirectories, List<Path> globalInputs) {
+
+    static final String ENABLED_PROPERTY = "testimpact.enabled";
+    static final String FULL_PROPERTY = "testimpact.full";
+    static final String INDEX_PROPERTY = "testimpact.index";
+    static final String CLASS_DIRECTORIES_PROPERTY = "testimpact.classDirectories";
+    static final String GLOBAL_INPUTS_PROPERTY = "testimpact.globalInputs";
+
+    private static final String DEFAULT_INDEX = "build/test-impact/index.json";
+    private static final String DEFAULT_CLASS_DIRECTORIES =
+            String.join(File.pathSeparator, "build/classes/java/main", "build/classes/java/test");
+    private static final String DEFAULT_GLOBAL_INPUTS =
+            String.join(File.pathSeparator, "build/resources/main", "build/resources/test", "build.gradle", "settings.gradle");
+
+    static TestImpactSettings fromSystemProperties() {
+        return new TestImpactSettings(
+                Boolean.getBoolean(ENABLED_PROPERTY),
+                Boolean.getBoolean(FULL_PROPERTY),
+                Path.of(System.getProperty(INDEX_PROPERTY, DEFAULT_INDEX)),
+                paths(System.getProperty(CLASS_DIRECTORIES_PROPERTY, DEFAULT_CLASS_DIRECTORIES)),
+                paths(System.getProperty(GLOBAL_INPUTS_PROPERTY, DEFAULT_GLOBAL_INPUTS)));
+    }
+
+    private static List<Path> paths(String value) {
+        return Arrays.stream(value.split(File.pathSeparator))
+                .filter(path -> !path.isBlank())
+                .map(Path::of)
+                .toList();
+    }
+}
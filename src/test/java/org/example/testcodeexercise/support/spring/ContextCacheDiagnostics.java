@@ -0,0 +1,104 @@
+package org.example.testcodeexercise.support.spring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.cache.ContextCacheUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ *  Spring TestContext의 ApplicationContext 캐시 사용 현황
+ *  - 테스트 JVM에서 하나의 캐시(DiagnosticContextCache)를 공유하며, 캐시 적중 / 실패 / 제거 횟수와 컨텍스트별 기동 시간을 기록
+ *  - 테스트 실행이 끝나면 ContextCacheReportListener가 build/reports/spring-test-context/context-cache.json 에 기록
+ *  - 캐시 실패(새 컨텍스트 기동)가 많다면 테스트마다 설정(@MockBean, @TestPropertySource, 프로파일 등)이 달라 캐시 키가 달라진 것
+ */
+@Slf4j
+public final class ContextCacheDiagnostics {
+
+    static final String REPORT_FILE = "context-cache.json";
+    static final Path DEFAULT_DIRECTORY = Path.of("build", "reports", "spring-test-context");
+
+    static final DiagnosticContextCache CACHE = new DiagnosticContextCache(ContextCacheUtils.retrieveMaxCacheSize());
+
+    private ContextCacheDiagnostics() {
+    }
+
+    /**
+     *  @param testClass 컨텍스트를 처음 요청한 테스트 클래스
+     *  @param configuration 캐시 키 요약 (설정 클래스, 프로파일, 프로퍼티)
+     *  @param bootMillis 컨텍스트 기동 시간
+     *  @param beanCount 등록된 빈 개수
+     */
+    public record ContextLoad(String testClass, String configuration, double bootMillis, int beanCount) {
+    }
+
+    public static long hitCount() {
+        return CACHE.getHitCount();
+    }
+
+    public static long missCount() {
+        return CACHE.getMissCount();
+    }
+
+    /**
+     *  LRU 정책(spring.test.context.cache.maxSize)이나 @DirtiesContext 로 제거된 컨텍스트 수
+     */
+    public static long removalCount() {
+        return CACHE.getRemovalCount();
+    }
+
+    public static List<ContextLoad> loads() {
+        return CACHE.getLoads();
+    }
+
+    public static void addListener(ContextCacheListener listener) {
+        CACHE.addListener(listener);
+    }
+
+    public static void removeListener(ContextCacheListener listener) {
+        CACHE.removeListener(listener);
+    }
+
+    static void writeReport(Path directory) throws IOException {
+        List<ContextLoad> loads = loads();
+        if (loads.isEmpty()) {
+            return;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("hits", hitCount());
+        report.put("misses", missCount());
+        report.put("removals", removalCount());
+        report.put("cachedContexts", CACHE.size());
+        report.put("totalBootMillis", loads.stream().mapToDouble(ContextLoad::bootMillis).sum());
+        report.put("contexts", loads);
+
+        Files.createDirectories(directory);
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(directory.resolve(REPORT_FILE).toFile(), report);
+        log.info("test ApplicationContext cache: {} hits, {} misses, {} removals, {} contexts booted in {}ms",
+                hitCount(), missCount(), removalCount(), loads.size(),
+                String.format("%.1f", (double) report.get("totalBootMillis")));
+    }
+
+    static String describe(MergedContextConfiguration configuration) {
+        StringBuilder description = new StringBuilder();
+        description.append("classes=").append(Arrays.stream(configuration.getClasses())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", "[", "]")));
+        if (configuration.getActiveProfiles().length > 0) {
+            description.append(", profiles=").append(Arrays.toString(configuration.getActiveProfiles()));
+        }
+        if (configuration.getPropertySourceProperties().length > 0) {
+            description.append(", properties=").append(Arrays.toString(configuration.getPropertySourceProperties()));
+        }
+        description.append(", customizers=").append(configuration.getContextCustomizers().size());
+        return description.toString();
+    }
+}
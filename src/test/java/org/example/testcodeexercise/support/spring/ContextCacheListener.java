@@ -0,0 +1,28 @@
+package org.example.testcodeexercise.support.spring;
+
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ *  DiagnosticCacheAwareContextLoaderDelegate가 컨텍스트를 기동하거나 사용할 때 호출 (ContextCacheDiagnostics.addListener로 등록)
+ *  - 컨텍스트를 요청한 스레드에서 호출되며, 부모 컨텍스트가 있으면 자식 기동 도중에 부모의 loadStarted / loadFinished가 중첩되어 호출됨
+ */
+public interface ContextCacheListener {
+
+    /**
+     *  캐시에 없는 컨텍스트를 기동하기 직전
+     */
+    default void loadStarted(MergedContextConfiguration configuration) {
+    }
+
+    /**
+     *  컨텍스트 기동이 끝난 직후 (기동에 실패해도 호출)
+     */
+    default void loadFinished(MergedContextConfiguration configuration) {
+    }
+
+    /**
+     *  테스트에 컨텍스트를 제공할 때마다 (새로 기동한 경우와 캐시에서 꺼낸 경우 모두)
+     */
+    default void contextUsed(MergedContextConfiguration configuration) {
+    }
+}
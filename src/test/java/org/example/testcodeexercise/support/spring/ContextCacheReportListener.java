@@ -0,0 +1,35 @@
+package org.example.testcodeexercise.support.spring;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ *  테스트 실행이 끝나면 ContextCacheDiagnostics 보고서를 기록 (META-INF/services 로 Launcher에 등록)
+ *  - springcontext.report.directory : 보고서 디렉터리 (기본값 build/reports/spring-test-context)
+ */
+public class ContextCacheReportListener implements TestExecutionListener {
+
+    static final String DIRECTORY_PARAMETER = "springcontext.report.directory";
+
+    private Path directory = ContextCacheDiagnostics.DEFAULT_DIRECTORY;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        directory = testPlan.getConfigurationParameters().get(DIRECTORY_PARAMETER)
+                .map(Path::of)
+                .orElse(ContextCacheDiagnostics.DEFAULT_DIRECTORY);
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        try {
+            ContextCacheDiagnostics.writeReport(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.testcodeexercise.support.spring;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.cache.DefaultCacheAwareContextLoaderDelegate;
+
+/**
+ *  ContextCacheDiagnostics의 캐시를 사용하고, 새 컨텍스트를 기동할 때 걸린 시간을 기록
+ *  - 컨텍스트 기동 전후와 컨텍스트 사용을 캐시에 등록된 ContextCacheListener에 알림
+ *  - src/test/resources/spring.properties 의 spring.test.context.default.CacheAwareContextLoaderDelegate 로 모든 Spring 테스트에 적용
+ */
+public class DiagnosticCacheAwareContextLoaderDelegate extends DefaultCacheAwareContextLoaderDelegate {
+
+    private final DiagnosticContextCache cache;
+
+    public DiagnosticCacheAwareContextLoaderDelegate() {
+        this(ContextCacheDiagnostics.CACHE);
+    }
+
+    DiagnosticCacheAwareContextLoaderDelegate(DiagnosticContextCache cache) {
+        super(cache);
+        this.cache = cache;
+    }
+
+    @Override
+    public ApplicationContext loadContext(MergedContextConfiguration mergedConfig) {
+        ApplicationContext context = super.loadContext(mergedConfig);
+        cache.contextUsed(mergedConfig);
+        return context;
+    }
+
+    @Override
+    protected ApplicationContext loadContextInternal(MergedContextConfiguration mergedConfig) throws Exception {
+        cache.loadStarted(mergedConfig);
+        try {
+            long start = System.nanoTime();
+            ApplicationContext context = super.loadContextInternal(mergedConfig);
+            cache.recordLoad(mergedConfig, System.nanoTime() - start, context.getBeanDefinitionCount());
+            return context;
+        } finally {
+            cache.loadFinished(mergedConfig);
+        }
+    }
+}
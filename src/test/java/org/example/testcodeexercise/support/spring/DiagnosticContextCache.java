@@ -0,0 +1,80 @@
+package org.example.testcodeexercise.support.spring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.testcodeexercise.support.spring.ContextCacheDiagnostics.ContextLoad;
+import org.springframework.test.annotation.DirtiesContext.HierarchyMode;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.cache.DefaultContextCache;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  적중 / 실패 횟수(DefaultContextCache가 집계)와 함께 제거된 컨텍스트 수와 컨텍스트별 기동 시간을 기록하는 DefaultContextCache
+ *  - 제거 수는 remove() 전후의 캐시 크기 차이로 집계하므로, EXHAUSTIVE 모드로 계층 전체를 제거하면 제거된 컨텍스트마다 하나씩 집계
+ *  - 컨텍스트 기동과 사용을 등록된 ContextCacheListener에 전달
+ */
+@Slf4j
+class DiagnosticContextCache extends DefaultContextCache {
+
+    private final Queue<ContextLoad> loads = new ConcurrentLinkedQueue<>();
+    private final LongAdder removals = new LongAdder();
+    private final List<ContextCacheListener> listeners = new CopyOnWriteArrayList<>();
+
+    DiagnosticContextCache(int maxSize) {
+        super(maxSize);
+    }
+
+    /**
+     *  LRU 정책(spring.test.context.cache.maxSize)이나 @DirtiesContext 로 제거된 컨텍스트 수
+     */
+    long getRemovalCount() {
+        return removals.sum();
+    }
+
+    List<ContextLoad> getLoads() {
+        return List.copyOf(loads);
+    }
+
+    void recordLoad(MergedContextConfiguration configuration, long bootNanos, int beanCount) {
+        ContextLoad load = new ContextLoad(configuration.getTestClass().getName(), ContextCacheDiagnostics.describe(configuration),
+                bootNanos / 1_000_000.0, beanCount);
+        loads.add(load);
+        log.info("loaded test ApplicationContext in {}ms for {} ({})",
+                String.format("%.1f", load.bootMillis()), load.testClass(), load.configuration());
+    }
+
+    void addListener(ContextCacheListener listener) {
+        listeners.add(listener);
+    }
+
+    void removeListener(ContextCacheListener listener) {
+        listeners.remove(listener);
+    }
+
+    void loadStarted(MergedContextConfiguration configuration) {
+        listeners.forEach(listener -> listener.loadStarted(configuration));
+    }
+
+    void loadFinished(MergedContextConfiguration configuration) {
+        listeners.forEach(listener -> listener.loadFinished(configuration));
+    }
+
+    void contextUsed(MergedContextConfiguration configuration) {
+        listeners.forEach(listener -> listener.contextUsed(configuration));
+    }
+
+    /**
+     *  DefaultCacheAwareContextLoaderDelegate가 캐시를 잠근 상태에서 호출하므로 전후 크기 비교가 다른 변경과 섞이지 않음
+     *  (LRU 제거는 put() 도중 새 컨텍스트를 추가한 뒤 호출됨)
+     */
+    @Override
+    public void remove(MergedContextConfiguration key, HierarchyMode hierarchyMode) {
+        int before = size();
+        super.remove(key, hierarchyMode);
+        removals.add(before - size());
+    }
+}
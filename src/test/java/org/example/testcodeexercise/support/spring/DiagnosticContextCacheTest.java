@@ -0,0 +1,126 @@
+package org.example.testcodeexercise.support.spring;
+
+import org.example.testcodeexercise.support.spring.ContextCacheDiagnostics.ContextLoad;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext.HierarchyMode;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiagnosticContextCacheTest {
+
+    private static final String[] NONE = new String[0];
+
+    @Test
+    void hitMissAndEvictionTest() {
+        DiagnosticContextCache cache = new DiagnosticContextCache(1);
+        DiagnosticCacheAwareContextLoaderDelegate delegate = new DiagnosticCacheAwareContextLoaderDelegate(cache);
+        MergedContextConfiguration first = configuration(FirstConfiguration.class, null, delegate);
+        MergedContextConfiguration second = configuration(SecondConfiguration.class, null, delegate);
+
+        delegate.loadContext(first);
+        delegate.loadContext(first);
+        delegate.loadContext(second);   // maxSize 1 이므로 first의 컨텍스트는 LRU로 제거됨
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getRemovalCount());
+        assertEquals(1, cache.size());
+
+        List<ContextLoad> loads = cache.getLoads();
+        assertEquals(2, loads.size());
+        assertEquals(DiagnosticContextCacheTest.class.getName(), loads.get(0).testClass());
+        assertTrue(loads.get(0).configuration().startsWith("classes=[FirstConfiguration]"));
+        assertTrue(loads.get(1).configuration().startsWith("classes=[SecondConfiguration]"));
+        assertTrue(loads.get(0).bootMillis() > 0);
+        assertTrue(loads.get(0).beanCount() > 0);
+
+        delegate.closeContext(second, HierarchyMode.CURRENT_LEVEL);   // @DirtiesContext
+        assertEquals(2, cache.getRemovalCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void exhaustiveHierarchyRemovalTest() {
+        DiagnosticContextCache cache = new DiagnosticContextCache(4);
+        DiagnosticCacheAwareContextLoaderDelegate delegate = new DiagnosticCacheAwareContextLoaderDelegate(cache);
+        MergedContextConfiguration parent = configuration(FirstConfiguration.class, null, delegate);
+        MergedContextConfiguration child = configuration(SecondConfiguration.class, parent, delegate);
+
+        delegate.loadContext(child);   // 부모 컨텍스트도 함께 기동
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getLoads().size());
+
+        // 계층 전체를 제거하면 제거된 컨텍스트마다 집계
+        delegate.closeContext(child, HierarchyMode.EXHAUSTIVE);
+        assertEquals(2, cache.getRemovalCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void listenerTest() {
+        DiagnosticContextCache cache = new DiagnosticContextCache(4);
+        DiagnosticCacheAwareContextLoaderDelegate delegate = new DiagnosticCacheAwareContextLoaderDelegate(cache);
+        MergedContextConfiguration parent = configuration(FirstConfiguration.class, null, delegate);
+        MergedContextConfiguration child = configuration(SecondConfiguration.class, parent, delegate);
+        List<String> events = new ArrayList<>();
+        cache.addListener(new ContextCacheListener() {
+            @Override
+            public void loadStarted(MergedContextConfiguration configuration) {
+                events.add("started " + name(configuration));
+            }
+
+            @Override
+            public void loadFinished(MergedContextConfiguration configuration) {
+                events.add("finished " + name(configuration));
+            }
+
+            @Override
+            public void contextUsed(MergedContextConfiguration configuration) {
+                events.add("used " + name(configuration));
+            }
+        });
+
+        delegate.loadContext(child);   // 부모 컨텍스트는 자식 기동 도중에 기동
+        delegate.loadContext(child);   // 캐시 적중
+
+        assertEquals(List.of(
+                "started second", "started first", "finished first", "used first", "finished second", "used second",
+                "used second"), events);
+    }
+
+    private static String name(MergedContextConfiguration configuration) {
+        return configuration.getClasses()[0] == FirstConfiguration.class ? "first" : "second";
+    }
+
+    @SuppressWarnings({"deprecation", "removal"})
+    private static MergedContextConfiguration configuration(Class<?> configurationClass, MergedContextConfiguration parent,
+                                                           DiagnosticCacheAwareContextLoaderDelegate delegate) {
+        return new MergedContextConfiguration(DiagnosticContextCacheTest.class, NONE, new Class<?>[]{configurationClass},
+                null, NONE, NONE, NONE, null, new AnnotationConfigContextLoader(), delegate, parent);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class FirstConfiguration {
+
+        @Bean
+        String first() {
+            return "first";
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class SecondConfiguration {
+
+        @Bean
+        String second() {
+            return "second";
+        }
+    }
+}
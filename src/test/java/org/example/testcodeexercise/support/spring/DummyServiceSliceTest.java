@@ -0,0 +1,27 @@
+package org.example.testcodeexercise.support.spring;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.example.testcodeexercise.sink.LineSinkConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *  DummyService와 AsyncLineSink만 등록하는 Spring 테스트 (웹 서버, 자동 설정, 컴포넌트 스캔 없음)
+ *  - application.properties 는 그대로 읽으므로 dummy.* 설정이 실제와 같이 적용됨
+ *  - 같은 어노테이션을 사용하는 테스트끼리는 캐시 키가 같아 컨텍스트를 한 번만 기동
+ *    테스트마다 @MockBean, @TestPropertySource 를 추가하면 캐시 키가 달라져 다시 기동함 (ContextCacheDiagnostics)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@SpringBootTest(classes = {DummyService.class, LineSinkConfiguration.class},
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public @interface DummyServiceSliceTest {
+}
@@ -0,0 +1,28 @@
+package org.example.testcodeexercise.support.spring;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.example.testcodeexercise.sink.LineSinkConfiguration;
+import org.example.testcodeexercise.web.DummyServletController;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *  DummyServletController와 Spring MVC 자동 설정, 실제 DummyService만 등록하는 Spring 테스트 (MockMvc 주입 가능)
+ *  - actuator, 캐시, 메트릭, 워밍업 등 나머지 자동 설정과 빈은 등록하지 않음
+ *  - 웹 서버는 띄우지 않고 mock servlet 환경에서 실행
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@WebMvcTest(controllers = DummyServletController.class)
+@Import({DummyService.class, LineSinkConfiguration.class})
+public @interface DummyWebSliceTest {
+}
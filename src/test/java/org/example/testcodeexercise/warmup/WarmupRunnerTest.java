@@ -0,0 +1,72 @@
+package org.example.testcodeexercise.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "dummy.warmup.enabled=true",
+        "dummy.warmup.paths=/warmup/probe,/warmup/failing",
+        "dummy.warmup.round-iterations=5",
+        "dummy.warmup.stable-rounds=2",
+        "dummy.warmup.max-duration=2s"})
+@Import(WarmupRunnerTest.WarmupProbeController.class)
+class WarmupRunnerTest {
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Autowired
+    private WarmupProbeController probe;
+
+    @Test
+    void readinessTransitionTest() {
+        // 워밍업 요청은 모두 트래픽을 받기 전(REFUSING_TRAFFIC)에 처리되고, 기동이 끝나면 ACCEPTING_TRAFFIC
+        assertFalse(probe.readinessStates.isEmpty());
+        assertTrue(probe.readinessStates.stream().allMatch(ReadinessState.REFUSING_TRAFFIC::equals));
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+    }
+
+    @Test
+    void failingPathTest() {
+        // 실패한 경로는 첫 요청 이후 제외되고, 나머지 경로의 워밍업과 기동은 계속 진행
+        assertEquals(1, probe.failingCalls.get());
+        assertTrue(probe.readinessStates.size() > 5);
+    }
+
+    @RestController
+    static class WarmupProbeController {
+
+        private final ApplicationAvailability availability;
+        private final List<ReadinessState> readinessStates = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failingCalls = new AtomicInteger();
+
+        WarmupProbeController(ApplicationAvailability availability) {
+            this.availability = availability;
+        }
+
+        @GetMapping("/warmup/probe")
+        String probe() {
+            readinessStates.add(availability.getReadinessState());
+            return "ok";
+        }
+
+        @GetMapping("/warmup/failing")
+        ResponseEntity<Void> failing() {
+            failingCalls.incrementAndGet();
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
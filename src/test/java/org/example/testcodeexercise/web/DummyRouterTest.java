@@ -0,0 +1,44 @@
+package org.example.testcodeexercise.web;
+
+import org.example.testcodeexercise.service.DummyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.scheduler.Schedulers;
+
+class DummyRouterTest {
+
+    private final DummyHandler handler = new DummyHandler(new DummyService(), new DummyWebProperties(2, 4), Schedulers.boundedElastic());
+    private final WebTestClient client = WebTestClient.bindToRouterFunction(new DummyRouter().dummyRoutes(handler)).build();
+
+    @Test
+    void serviceMethodEndpointTest() {
+        client.get().uri("/dummy").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("dummy");
+        client.get().uri("/dummy/int").exchange()
+                .expectStatus().isOk()
+                .expectBody(Integer.class).isEqualTo(1);
+        client.post().uri("/dummy/method").exchange()
+                .expectStatus().isNoContent();
+        client.get().uri("/dummy/param/test").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("dummy test");
+        client.get().uri("/dummy/int/1000").exchange()
+                .expectStatus().isOk()
+                .expectBody(Integer.class).isEqualTo(1001);
+        client.get().uri("/dummy/int/abc").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void streamEndpointTest() {
+        client.post().uri("/dummy/stream")
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue("a\nb\nc\n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).isEqualTo("\"dummy a\"\n\"dummy b\"\n\"dummy c\"\n");
+    }
+}
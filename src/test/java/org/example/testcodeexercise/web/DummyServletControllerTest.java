@@ -0,0 +1,48 @@
+package org.example.testcodeexercise.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.testcodeexercise.service.DummyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DummyServletControllerTest {
+
+    private final DummyServletController controller =
+            new DummyServletController(new DummyService(), new DummyWebProperties(2, 2), new ObjectMapper());
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+    @Test
+    void serviceMethodEndpointTest() throws Exception {
+        mockMvc.perform(get("/dummy"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("dummy"));
+        mockMvc.perform(get("/dummy/int"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1"));
+        mockMvc.perform(post("/dummy/method"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/dummy/param/test"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("dummy test"));
+        mockMvc.perform(get("/dummy/int/1000"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1001"));
+        mockMvc.perform(get("/dummy/int/abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamEndpointTest() throws Exception {
+        mockMvc.perform(post("/dummy/stream").contentType(MediaType.TEXT_PLAIN).content("a\nb\nc\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+                .andExpect(content().string("\"dummy a\"\n\"dummy b\"\n\"dummy c\"\n"));
+    }
+}
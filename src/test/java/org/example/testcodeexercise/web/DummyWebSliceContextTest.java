@@ -0,0 +1,27 @@
+package org.example.testcodeexercise.web;
+
+import org.example.testcodeexercise.support.spring.DummyWebSliceTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DummyWebSliceTest
+class DummyWebSliceContextTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void serviceMethodEndpointTest() throws Exception {
+        mockMvc.perform(get("/dummy"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("dummy"));
+        mockMvc.perform(get("/dummy/param/slice"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("dummy slice"));
+    }
+}